@@ -4,6 +4,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -24,9 +25,12 @@ import com.ggamakun.linkle.domain.auth.service.AuthService;
 import com.ggamakun.linkle.domain.auth.service.EmailService;
 import com.ggamakun.linkle.domain.member.entity.Member;
 import com.ggamakun.linkle.domain.member.service.MemberService;
+import com.ggamakun.linkle.global.exception.UnauthorizedException;
+import com.ggamakun.linkle.global.security.ClientIpResolver;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -42,34 +46,53 @@ public class AuthController {
     private final AuthService authService;
     private final MemberService memberService;
     private final EmailService emailService;
+    private final ClientIpResolver clientIpResolver;
     
     @PostMapping("/login")
     public ResponseEntity<LoginResponseDto> login(@RequestBody @Valid LoginRequestDto request,
-    		HttpServletResponse response) {
+    		HttpServletRequest httpRequest, HttpServletResponse response) {
     	log.info("로그인 요청: {}", request.getEmail());
-        LoginResponseDto loginResponse = authService.login(request);
+        LoginResponseDto loginResponse = authService.login(request, clientIpResolver.resolve(httpRequest));
         
-        // Access Token을 HttpOnly Cookie로 설정
-        Cookie accessTokenCookie = new Cookie("accessToken", loginResponse.getAccessToken());
+        addTokenCookies(response, loginResponse);
+        
+//         응답에서 토큰 제거 (쿠키로만 전송)
+//        loginResponse.setAccessToken(null);
+//        loginResponse.setRefreshToken(null);
+        
+        return ResponseEntity.ok(loginResponse);
+    }
+    
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponseDto> refresh(
+            @CookieValue(value = "refreshToken", required = false) String refreshToken,
+            HttpServletResponse response) {
+        if (refreshToken == null) {
+            throw new UnauthorizedException("Refresh Token이 없습니다.");
+        }
+        
+        LoginResponseDto refreshResponse = authService.refresh(refreshToken);
+        
+        addTokenCookies(response, refreshResponse);
+        
+        return ResponseEntity.ok(refreshResponse);
+    }
+    
+    // Access Token, Refresh Token을 HttpOnly Cookie로 설정
+    private void addTokenCookies(HttpServletResponse response, LoginResponseDto tokens) {
+        Cookie accessTokenCookie = new Cookie("accessToken", tokens.getAccessToken());
         accessTokenCookie.setHttpOnly(true);
 //        accessTokenCookie.setSecure(true); // HTTPS에서만 전송
         accessTokenCookie.setPath("/");
         accessTokenCookie.setMaxAge(60 * 60); // 1시간
         response.addCookie(accessTokenCookie);
         
-        // Refresh Token을 HttpOnly Cookie로 설정
-        Cookie refreshTokenCookie = new Cookie("refreshToken", loginResponse.getRefreshToken());
+        Cookie refreshTokenCookie = new Cookie("refreshToken", tokens.getRefreshToken());
         refreshTokenCookie.setHttpOnly(true);
 //        refreshTokenCookie.setSecure(true);
         refreshTokenCookie.setPath("/");
         refreshTokenCookie.setMaxAge(60 * 60 * 24 * 14); // 14일
         response.addCookie(refreshTokenCookie);
-        
-//         응답에서 토큰 제거 (쿠키로만 전송)
-//        loginResponse.setAccessToken(null);
-//        loginResponse.setRefreshToken(null);
-        
-        return ResponseEntity.ok(loginResponse);
     }
     
     @PostMapping("/logout")
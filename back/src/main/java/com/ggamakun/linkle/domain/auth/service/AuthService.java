@@ -3,7 +3,6 @@ package com.ggamakun.linkle.domain.auth.service;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,8 +14,14 @@ import com.ggamakun.linkle.domain.file.repository.IFileStorageRepository;
 import com.ggamakun.linkle.domain.member.entity.Member;
 import com.ggamakun.linkle.domain.member.repository.IMemberRepository;
 import com.ggamakun.linkle.global.exception.BadRequestException;
+import com.ggamakun.linkle.global.exception.UnauthorizedException;
 import com.ggamakun.linkle.global.security.JwtUtil;
+import com.ggamakun.linkle.global.security.PasswordHashService;
+import com.ggamakun.linkle.global.security.PrincipalCache;
+import com.ggamakun.linkle.global.security.RefreshTokenStore;
+import com.ggamakun.linkle.global.security.TokenVersionStore;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,9 +31,12 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthService {
     
     private final IMemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService;
     //private final IFileStorageRepository fileStorageRepository;
     private final JwtUtil jwtUtil;
+    private final PrincipalCache principalCache;
+    private final TokenVersionStore tokenVersionStore;
+    private final RefreshTokenStore refreshTokenStore;
     
     /**
      * 회원가입 1단계: 이메일, 비밀번호, 이름 등록
@@ -44,7 +52,7 @@ public class AuthService {
         }
         
         // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHashService.encode(request.getPassword());
         
         // Member 엔티티 생성
         Member member = Member.builder()
@@ -68,9 +76,12 @@ public class AuthService {
     /**
      * 로그인
      */
-    public LoginResponseDto login(LoginRequestDto request) {
+    public LoginResponseDto login(LoginRequestDto request, String clientIp) {
         log.info("로그인 시도: {}", request.getEmail());
         
+        // 이메일/IP별 시도 횟수 제한
+        passwordHashService.checkLoginAllowed(request.getEmail(), clientIp);
+        
         // 회원 조회
         Member member = memberRepository.findByEmailForAuth(request.getEmail());
         
@@ -79,15 +90,20 @@ public class AuthService {
         }
         
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+        if (!passwordHashService.matches(request.getPassword(), member.getPassword())) {
             throw new BadRequestException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
         
+        // cost 설정이 올라간 경우 새 cost로 재암호화
+        if (passwordHashService.needsRehash(member.getPassword())) {
+            rehashPassword(member, request.getPassword());
+        }
 
         // JWT 토큰 생성
-        String accessToken = jwtUtil.createAccessToken(member.getMemberId(), member.getEmail());
+        String accessToken = jwtUtil.createAccessToken(member);
         String refreshToken = jwtUtil.createRefreshToken(member.getMemberId(), member.getEmail());
         
+        passwordHashService.loginSucceeded(request.getEmail(), clientIp);
         log.info("로그인 성공: {}", member.getEmail());
         
         return LoginResponseDto.builder()
@@ -103,6 +119,64 @@ public class AuthService {
                 .build();
     }
     
+    /**
+     * 토큰 재발급 (Refresh Token 교체)
+     * 이미 교체된 Refresh Token이 다시 사용되면 탈취로 보고 해당 회원의 토큰을 모두 폐기 (Access Token 포함)
+     * 단, 처음 사용 후 유예 시간(jwt.refresh-store.reuse-grace-ms) 안의 재사용은 동시 요청으로 보고 새 토큰 발급
+     */
+    public LoginResponseDto refresh(String refreshToken) {
+        Claims claims = jwtUtil.parseRefreshToken(refreshToken);
+        
+        if (claims == null) {
+            throw new UnauthorizedException("유효하지 않은 Refresh Token입니다.");
+        }
+        
+        Integer memberId = Integer.valueOf(claims.getSubject());
+        
+        if (!refreshTokenStore.markUsed(claims.getId(), claims.getExpiration().getTime())) {
+            log.warn("Refresh Token 재사용 감지 - Member ID: {}", memberId);
+            tokenVersionStore.revoke(memberId);
+            throw new UnauthorizedException("이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+        }
+        
+        Member member = memberRepository.findById(memberId);
+        
+        if (member == null) {
+            throw new UnauthorizedException("존재하지 않는 회원입니다.");
+        }
+        
+        String accessToken = jwtUtil.createAccessToken(member);
+        String newRefreshToken = jwtUtil.createRefreshToken(member.getMemberId(), member.getEmail());
+        
+        return LoginResponseDto.builder()
+                .memberId(member.getMemberId())
+                .email(member.getEmail())
+                .name(member.getName())
+                .nickname(member.getNickname())
+                .fileId(member.getFileId())
+                .accessToken(accessToken)
+                .refreshToken(newRefreshToken)
+                .message("토큰이 재발급되었습니다.")
+                .build();
+    }
+    
+    /**
+     * 로그인 시 비밀번호 재암호화 (실패해도 로그인은 진행)
+     */
+    private void rehashPassword(Member member, String rawPassword) {
+        try {
+            Member update = Member.builder()
+                    .memberId(member.getMemberId())
+                    .password(passwordHashService.encode(rawPassword))
+                    .updatedBy(member.getMemberId())
+                    .build();
+            memberRepository.updateMember(update);
+            log.info("비밀번호 재암호화 완료 - Member ID: {}", member.getMemberId());
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 재암호화 실패 - Member ID: {}", member.getMemberId(), e);
+        }
+    }
+    
     /**
      * 아이디 찾기
      */
@@ -164,12 +238,14 @@ public class AuthService {
             throw new BadRequestException("소셜 로그인 계정은 비밀번호 재설정을 사용할 수 없습니다.");
         }
         
-        String encodedPassword = passwordEncoder.encode(newPassword);
+        String encodedPassword = passwordHashService.encode(newPassword);
         member.setPassword(encodedPassword);
         member.setVerificationToken(null);
         member.setTokenExpiryDate(null);
         
         memberRepository.updateMember(member);
+        principalCache.evict(member.getEmail());
+        tokenVersionStore.revoke(member.getMemberId());
         
         log.info("비밀번호 재설정 완료: {}", member.getEmail());
     }
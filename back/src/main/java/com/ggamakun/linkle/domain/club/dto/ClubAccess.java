@@ -0,0 +1,38 @@
+package com.ggamakun.linkle.domain.club.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 동호회 내 회원의 권한 (승인된 회원만 역할을 가짐)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ClubAccess {
+
+	// 비회원 (미가입, 승인 대기, 탈퇴, 강퇴 등)
+	public static final ClubAccess NONE = new ClubAccess(null);
+
+	// LEADER, MANAGER, MEMBER
+	private final String role;
+
+	public static ClubAccess of(String role) {
+		return role == null ? NONE : new ClubAccess(role);
+	}
+
+	// 승인된 회원인지
+	public boolean isMember() {
+		return role != null;
+	}
+
+	// 동호회장인지
+	public boolean isLeader() {
+		return "LEADER".equals(role);
+	}
+
+	// 운영진 이상(동호회장, 운영진)인지
+	public boolean isManagerOrAbove() {
+		return "LEADER".equals(role) || "MANAGER".equals(role);
+	}
+}
@@ -0,0 +1,72 @@
+package com.ggamakun.linkle.domain.club.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.ggamakun.linkle.domain.club.dto.ClubAccess;
+import com.ggamakun.linkle.domain.club.repository.IClubRepository;
+import com.ggamakun.linkle.global.util.AfterCommit;
+import com.ggamakun.linkle.global.util.LoadGuard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 동호회 권한 조회 (clubId, memberId) 캐시
+ * - 가입 승인/거절, 강제 탈퇴, 탈퇴, 권한 변경 시 무효화
+ */
+@Service
+public class ClubAccessService {
+
+	private final IClubRepository clubRepository;
+	// (clubId << 32 | memberId) -> 권한
+	private final Cache<Long, ClubAccess> cache;
+	// 로드 중에 무효화된 권한은 캐시에 남기지 않음
+	private final LoadGuard loadGuard = new LoadGuard();
+
+	public ClubAccessService(IClubRepository clubRepository,
+			MeterRegistry meterRegistry,
+			@Value("${club.access-cache.max-size:50000}") long maxSize,
+			@Value("${club.access-cache.ttl-seconds:600}") long ttlSeconds) {
+		this.clubRepository = clubRepository;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "club.access.cache");
+	}
+
+	// 동호회 내 권한 조회
+	public ClubAccess getAccess(Integer clubId, Integer memberId) {
+		if (clubId == null || memberId == null) {
+			return ClubAccess.NONE;
+		}
+		return loadGuard.get(cache, key(clubId, memberId), k -> ClubAccess.of(clubRepository.getMemberRole(clubId, memberId)));
+	}
+
+	// 회원 한 명의 권한 무효화
+	public void evict(Integer clubId, Integer memberId) {
+		long key = key(clubId, memberId);
+		AfterCommit.nowAndAfterCompletion(() -> {
+			loadGuard.markChanged(key);
+			cache.invalidate(key);
+		});
+	}
+
+	// 동호회 전체 권한 무효화
+	public void evictClub(Integer clubId) {
+		AfterCommit.nowAndAfterCompletion(() -> {
+			loadGuard.markAllChanged();
+			cache.asMap().keySet().removeIf(key -> (int) (key >>> 32) == clubId);
+		});
+	}
+
+	private long key(Integer clubId, Integer memberId) {
+		return ((long) clubId << 32) | (memberId & 0xFFFFFFFFL);
+	}
+}
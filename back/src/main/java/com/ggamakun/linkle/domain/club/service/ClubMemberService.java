@@ -6,11 +6,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.ggamakun.linkle.domain.club.dto.CapacityDto;
+import com.ggamakun.linkle.domain.club.dto.ClubAccess;
 import com.ggamakun.linkle.domain.club.dto.ClubMemberDto;
 import com.ggamakun.linkle.domain.club.entity.Club;
 import com.ggamakun.linkle.domain.club.repository.IClubMemberRepository;
 import com.ggamakun.linkle.domain.club.repository.IClubRepository;
+import com.ggamakun.linkle.domain.feed.service.HomeTimeline;
 import com.ggamakun.linkle.domain.notification.dto.CreateNotificationRequestDto;
+import com.ggamakun.linkle.domain.notification.dto.NotificationKind;
 import com.ggamakun.linkle.domain.notification.service.NotificationService;
 import com.ggamakun.linkle.global.exception.BadRequestException;
 import com.ggamakun.linkle.global.exception.ForbiddenException;
@@ -27,10 +30,13 @@ public class ClubMemberService implements IClubMemberService {
     private final IClubMemberRepository clubMemberRepository;
     private final IClubRepository clubRepository;
     private final NotificationService notificationService;
+    private final ClubAccessService clubAccessService;
+    private final HomeTimeline homeTimeline;
+    
     @Override
     public List<ClubMemberDto> getClubMembers(Integer clubId, Integer currentMemberId) {
         // 동호회 회원인지 확인
-        if (clubRepository.isClubMember(clubId, currentMemberId) == 0) {
+        if (!clubAccessService.getAccess(clubId, currentMemberId).isMember()) {
             throw new ForbiddenException("동호회 회원만 조회할 수 있습니다.");
         }
 
@@ -40,8 +46,7 @@ public class ClubMemberService implements IClubMemberService {
     @Override
     public List<ClubMemberDto> getWaitingMembers(Integer clubId, Integer currentMemberId) {
         // 운영진 이상 권한 확인
-        String role = clubRepository.getMemberRole(clubId, currentMemberId);
-        if (!"LEADER".equals(role) && !"MANAGER".equals(role)) {
+        if (!clubAccessService.getAccess(clubId, currentMemberId).isManagerOrAbove()) {
             throw new ForbiddenException("운영진 이상만 조회할 수 있습니다.");
         }
 
@@ -52,8 +57,7 @@ public class ClubMemberService implements IClubMemberService {
     @Transactional
     public void updateMemberRole(Integer clubId, Integer targetMemberId, String role, Integer currentMemberId) {
         // 운영진 이상 권한 확인
-        String currentRole = clubRepository.getMemberRole(clubId, currentMemberId);
-        if (!"LEADER".equals(currentRole) && !"MANAGER".equals(currentRole)) {
+        if (!clubAccessService.getAccess(clubId, currentMemberId).isManagerOrAbove()) {
             throw new ForbiddenException("운영진 이상만 권한을 변경할 수 있습니다.");
         }
 
@@ -63,10 +67,10 @@ public class ClubMemberService implements IClubMemberService {
         }
 
         // 대상 회원의 현재 역할 확인
-        String targetRole = clubRepository.getMemberRole(clubId, targetMemberId);
+        ClubAccess targetAccess = clubAccessService.getAccess(clubId, targetMemberId);
         
         // 동호회장 권한 변경 불가
-        if ("LEADER".equals(targetRole)) {
+        if (targetAccess.isLeader()) {
             throw new BadRequestException("동호회장의 권한은 변경할 수 없습니다.");
         }
 
@@ -74,6 +78,7 @@ public class ClubMemberService implements IClubMemberService {
         if (updated == 0) {
             throw new BadRequestException("회원을 찾을 수 없습니다.");
         }
+        clubAccessService.evict(clubId, targetMemberId);
         
         //권한 변경 알림
         String roleText = "MANAGER".equals(role) ? "운영진": "회원";
@@ -87,6 +92,7 @@ public class ClubMemberService implements IClubMemberService {
         			.content(clubName + "동호회에서" + roleText + "으로 변경되었습니다.")
         			.linkUrl("/clubs/" + clubId + "/dashboard")
         			.createdBy(currentMemberId)
+        			.kind(NotificationKind.ROLE_CHANGE)
         			.build()
         	);
         
@@ -98,8 +104,7 @@ public class ClubMemberService implements IClubMemberService {
     @Transactional
     public void removeMember(Integer clubId, Integer targetMemberId, String reason, Boolean allowRejoin, Integer currentMemberId) {
         // 운영진 이상 권한 확인
-        String currentRole = clubRepository.getMemberRole(clubId, currentMemberId);
-        if (!"LEADER".equals(currentRole) && !"MANAGER".equals(currentRole)) {
+        if (!clubAccessService.getAccess(clubId, currentMemberId).isManagerOrAbove()) {
             throw new ForbiddenException("운영진 이상만 강제 탈퇴를 할 수 있습니다.");
         }
 
@@ -109,10 +114,10 @@ public class ClubMemberService implements IClubMemberService {
         }
 
         // 대상 회원의 현재 역할 확인
-        String targetRole = clubRepository.getMemberRole(clubId, targetMemberId);
+        ClubAccess targetAccess = clubAccessService.getAccess(clubId, targetMemberId);
         
         // 동호회장 강제 탈퇴 불가
-        if ("LEADER".equals(targetRole)) {
+        if (targetAccess.isLeader()) {
             throw new BadRequestException("동호회장을 강제 탈퇴할 수 없습니다.");
         }
 
@@ -126,6 +131,8 @@ public class ClubMemberService implements IClubMemberService {
         if (removed == 0) {
             throw new BadRequestException("회원을 찾을 수 없습니다.");
         }
+        clubAccessService.evict(clubId, targetMemberId);
+        homeTimeline.evict(targetMemberId);
         
         //강제 탈퇴 알림
         Club club = clubRepository.findById(clubId);
@@ -149,8 +156,7 @@ public class ClubMemberService implements IClubMemberService {
     @Transactional
     public void approveMember(Integer clubId, Integer targetMemberId, Integer currentMemberId) {
         // 운영진 이상 권한 확인
-        String role = clubRepository.getMemberRole(clubId, currentMemberId);
-        if (!"LEADER".equals(role) && !"MANAGER".equals(role)) {
+        if (!clubAccessService.getAccess(clubId, currentMemberId).isManagerOrAbove()) {
             throw new ForbiddenException("운영진 이상만 승인할 수 있습니다.");
         }
 
@@ -158,6 +164,8 @@ public class ClubMemberService implements IClubMemberService {
         if (approved == 0) {
             throw new BadRequestException("승인 대기 중인 회원을 찾을 수 없습니다.");
         }
+        clubAccessService.evict(clubId, targetMemberId);
+        homeTimeline.evict(targetMemberId);
         
         //가입 승인 알림
         Club club = clubRepository.findById(clubId);
@@ -181,8 +189,7 @@ public class ClubMemberService implements IClubMemberService {
     @Transactional
     public void rejectMember(Integer clubId, Integer targetMemberId, String rejectionReason, Integer currentMemberId) {
         // 운영진 이상 권한 확인
-        String role = clubRepository.getMemberRole(clubId, currentMemberId);
-        if (!"LEADER".equals(role) && !"MANAGER".equals(role)) {
+        if (!clubAccessService.getAccess(clubId, currentMemberId).isManagerOrAbove()) {
             throw new ForbiddenException("운영진 이상만 거절할 수 있습니다.");
         }
 
@@ -190,6 +197,7 @@ public class ClubMemberService implements IClubMemberService {
         if (rejected == 0) {
             throw new BadRequestException("승인 대기 중인 회원을 찾을 수 없습니다.");
         }
+        clubAccessService.evict(clubId, targetMemberId);
         
         //가입 거절 알림
         Club club = clubRepository.findById(clubId);
@@ -259,18 +267,16 @@ public class ClubMemberService implements IClubMemberService {
         List<Integer> adminIds = clubMemberRepository.findAdminIdsByClubId(clubId);
         if (adminIds == null || adminIds.isEmpty()) return;
 
-        // 4) 운영진들에게 알림 발송
-        for (Integer receiverId : adminIds) {
-            notificationService.sendNotification(
-                CreateNotificationRequestDto.builder()
-                    .receiverId(receiverId)
-                    .title("가입신청이 도착했어요")
-                    .content("새로운 회원의 가입신청이 있습니다. 승인/거절을 진행해주세요.")
-                    .linkUrl("/clubs/" + clubId + "/members") 
-                    .createdBy(memberId)
-                    .build()
-            );
-        }
+        // 4) 운영진들에게 알림 발송 (커밋 후 일괄 발송)
+        notificationService.sendNotifications(adminIds,
+            CreateNotificationRequestDto.builder()
+                .title("가입신청이 도착했어요")
+                .content("새로운 회원의 가입신청이 있습니다. 승인/거절을 진행해주세요.")
+                .linkUrl("/clubs/" + clubId + "/members") 
+                .createdBy(memberId)
+                .kind(NotificationKind.JOIN_REQUEST)
+                .build()
+        );
     }
     
     @Override
@@ -330,6 +336,8 @@ public class ClubMemberService implements IClubMemberService {
 	    if (result == 0) {
 	        throw new BadRequestException("동호회 탈퇴에 실패했습니다.");
 	    }
+	    clubAccessService.evict(clubId, memberId);
+	    homeTimeline.evict(memberId);
 	    
 	    // 동호회장에게 알림 발송
 	    if (leaderId != null && !leaderId.equals(memberId)) {
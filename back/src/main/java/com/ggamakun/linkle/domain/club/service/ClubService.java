@@ -19,6 +19,7 @@ import com.ggamakun.linkle.domain.club.dto.SearchClubDto;
 import com.ggamakun.linkle.domain.club.dto.UpdateClubRequestDto;
 import com.ggamakun.linkle.domain.club.entity.Club;
 import com.ggamakun.linkle.domain.club.repository.IClubRepository;
+import com.ggamakun.linkle.domain.feed.service.HomeTimeline;
 import com.ggamakun.linkle.global.exception.BadRequestException;
 import com.ggamakun.linkle.global.exception.ForbiddenException;
 import com.ggamakun.linkle.global.exception.NotFoundException;
@@ -32,6 +33,8 @@ import lombok.extern.slf4j.Slf4j;
 public class ClubService implements IClubService {
 
 	private final IClubRepository clubRepository;
+	private final ClubAccessService clubAccessService;
+	private final HomeTimeline homeTimeline;
 	
 	@Override
 	public List<ClubSummary> getJoinedClubs(Integer memberId) {
@@ -55,6 +58,8 @@ public class ClubService implements IClubService {
 		Integer clubId = request.getClubId();
 		
 		clubRepository.insertClubMember(clubId, memberId);
+		clubAccessService.evict(clubId, memberId);
+		homeTimeline.evict(memberId);
 		
 		log.info("동호회 생성 완료 - 동호회 ID: {}", clubId);
 		
@@ -83,8 +88,7 @@ public class ClubService implements IClubService {
 		}
 		
 		// 동호회장 권한 확인
-		String role = clubRepository.getMemberRole(clubId, memberId);
-		if (!"LEADER".equals(role)) {
+		if (!clubAccessService.getAccess(clubId, memberId).isLeader()) {
 			throw new ForbiddenException("동호회장만 수정할 수 있습니다.");
 		}
 		
@@ -110,8 +114,7 @@ public class ClubService implements IClubService {
 		}
 		
 		// 동호회장 권한 확인
-		String role = clubRepository.getMemberRole(clubId, memberId);
-		if (!"LEADER".equals(role)) {
+		if (!clubAccessService.getAccess(clubId, memberId).isLeader()) {
 			throw new ForbiddenException("동호회장만 삭제할 수 있습니다.");
 		}
 		
@@ -125,6 +128,9 @@ public class ClubService implements IClubService {
 		if (deleted == 0) {
 			throw new BadRequestException("동호회 삭제에 실패했습니다.");
 		}
+		clubAccessService.evictClub(clubId);
+		// 삭제 시점에 남은 회원은 동호회장뿐
+		homeTimeline.evict(memberId);
 		
 		log.info("동호회 삭제 완료 - 동호회 ID: {}", clubId);
 	}
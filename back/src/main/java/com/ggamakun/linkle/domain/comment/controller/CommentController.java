@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ggamakun.linkle.domain.comment.dto.CommentDto;
@@ -27,13 +28,24 @@ import lombok.RequiredArgsConstructor;
 public class CommentController {
 	private final ICommentService commentService;
 	
-	//댓글 목록 조회
+	//댓글 목록 조회 (최상위 댓글 cursor 페이지, 대댓글은 미리보기만)
 	@GetMapping("/posts/{postid}/comments")
-	ResponseEntity<List<CommentDto>> getComments(@PathVariable("postid") Integer postId){
-		List<CommentDto> comments = commentService.getCommentbyPostId(postId);
+	ResponseEntity<List<CommentDto>> getComments(@PathVariable("postid") Integer postId,
+												 @RequestParam(name = "size", defaultValue = "20") Integer size,
+												 @RequestParam(name = "cursor", required = false) Integer cursor){
+		List<CommentDto> comments = commentService.getCommentbyPostId(postId, size, cursor);
 		return ResponseEntity.ok(comments);
 	}
 	
+	//대댓글 더보기
+	@GetMapping("/comments/{commentid}/replies")
+	ResponseEntity<List<CommentDto>> getReplies(@PathVariable("commentid") Integer commentId,
+												@RequestParam(name = "size", defaultValue = "20") Integer size,
+												@RequestParam(name = "cursor", required = false) Integer cursor){
+		List<CommentDto> replies = commentService.getReplies(commentId, size, cursor);
+		return ResponseEntity.ok(replies);
+	}
+	
 	//댓글 상세 조회
 	@GetMapping("/comments/{commentid}")
 	ResponseEntity<CommentDto> getComment(@PathVariable("commentid") Integer commentId){
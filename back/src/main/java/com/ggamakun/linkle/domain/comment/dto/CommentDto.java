@@ -22,5 +22,7 @@ public class CommentDto {
 	private String profileUrl;
 	private String isDeleted;
 	private List<CommentDto> replies = new ArrayList<>();
+	//미리보기 외에 더 불러올 대댓글이 있는지
+	private Boolean hasMoreReplies;
 }
 
@@ -5,6 +5,8 @@ import lombok.Data;
 @Data
 public class CreateCommentRequest {
 	
+	//등록 시 시퀀스로 채워짐
+	private Integer commentId;
 	private Integer postId;
 	private Integer parentCommentId;
 	private String content;
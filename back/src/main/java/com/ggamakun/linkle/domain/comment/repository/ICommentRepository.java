@@ -10,8 +10,17 @@ import com.ggamakun.linkle.domain.comment.dto.CreateCommentRequest;
 
 @Mapper
 public interface ICommentRepository {
-	//특정 게시글의 모든 댓글 조회(댓글+대댓글) -> 삭제된것 숨긴다, 대댓글 있으면 노출
-	List<CommentDto> findByPostId(Integer postId);
+	//게시글의 최상위 댓글 페이지 (cursor 댓글 다음부터 size개) -> 삭제된것 숨긴다, 대댓글 있으면 노출
+	List<CommentDto> findTopLevelComments(@Param("postId") Integer postId, @Param("size") int size, @Param("cursor") Integer cursor);
+	
+	//부모 댓글들의 대댓글을 부모별 최대 limit개까지 조회
+	List<CommentDto> findRepliesByParentIds(@Param("parentIds") List<Integer> parentIds, @Param("limit") int limit);
+	
+	//대댓글 더보기 (cursor 대댓글 다음부터 size개)
+	List<CommentDto> findReplies(@Param("parentId") Integer parentId, @Param("size") int size, @Param("cursor") Integer cursor);
+	
+	//댓글 한 건 (목록 컬럼만)
+	CommentDto findCommentRow(Integer commentId);
 	
 	//댓글 상세 조회
 	CommentDto findById(Integer commentId);
@@ -1,8 +1,12 @@
 package com.ggamakun.linkle.domain.comment.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,10 +15,18 @@ import org.springframework.web.server.ResponseStatusException;
 import com.ggamakun.linkle.domain.comment.dto.CommentDto;
 import com.ggamakun.linkle.domain.comment.dto.CreateCommentRequest;
 import com.ggamakun.linkle.domain.comment.repository.ICommentRepository;
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.like.service.LikeCounterEngine;
+import com.ggamakun.linkle.domain.member.dto.AuthorProfile;
+import com.ggamakun.linkle.domain.member.service.MemberProfileCache;
 import com.ggamakun.linkle.domain.notification.dto.CreateNotificationRequestDto;
+import com.ggamakun.linkle.domain.notification.dto.NotificationKind;
 import com.ggamakun.linkle.domain.notification.service.NotificationService;
 import com.ggamakun.linkle.domain.post.dto.PostDetail;
 import com.ggamakun.linkle.domain.post.repository.IPostRepository;
+import com.ggamakun.linkle.domain.post.service.PostDetailCache;
+import com.ggamakun.linkle.domain.trending.dto.ActivityEvent;
+import com.ggamakun.linkle.domain.trending.dto.ActivityType;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,35 +38,106 @@ public class CommentService implements ICommentService {
 	private final ICommentRepository commentRepository;
 	private final IPostRepository postRepository;
 	private final NotificationService notificationService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PostDetailCache postDetailCache;
+	private final CommentThreadCache commentThreadCache;
+	private final MemberProfileCache memberProfileCache;
+	private final LikeCounterEngine likeCounter;
 	
-	//해당 게시글의 모든 댓글 행(부모+자식)을 조회
-	//최상위 댓글만 먼저 뽑고 -> 각 최상위 댓글에 자기 자식(대댓글)을 붙인다.
+	@Value("${comment.page.max-size:50}")
+	private int maxPageSize;
+	
+	@Value("${comment.replies.preview-size:3}")
+	private int replyPreviewSize;
+	
+	//첫 페이지는 게시글별 댓글 캐시에서, 그 다음 페이지는 DB에서 조회
+	//작성자 프로필과 좋아요 수는 응답 직전에 채운다.
 	@Override
-	public List<CommentDto> getCommentbyPostId(Integer postId) {
-		
-		List<CommentDto> allComments = commentRepository.findByPostId(postId);
+	public List<CommentDto> getCommentbyPostId(Integer postId, Integer size, Integer cursor) {
+		int pageSize = pageSize(size);
+		List<CommentDto> comments = null;
+		if (cursor == null) {
+			comments = commentThreadCache.firstPage(postId, pageSize, id -> loadCommentTree(id, maxPageSize, null));
+		}
+		if (comments == null) {
+			comments = loadCommentTree(postId, pageSize, cursor);
+		}
+		List<CommentDto> all = new ArrayList<>(comments);
+		comments.forEach(c -> all.addAll(c.getReplies()));
+		fillAuthorsAndLikes(all);
+		return comments;
+	}
+	
+	//대댓글 더보기
+	@Override
+	public List<CommentDto> getReplies(Integer parentCommentId, Integer size, Integer cursor) {
+		List<CommentDto> replies = commentRepository.findReplies(parentCommentId, pageSize(size), cursor);
+		fillAuthorsAndLikes(replies);
+		return replies;
+	}
+	
+	//최상위 댓글 한 페이지를 조회하고, 각 댓글에 대댓글 미리보기를 붙인다.
+	//대댓글은 한 번의 쿼리로 부모별 previewSize+1개까지만 읽어서 더보기 여부를 판단
+	private List<CommentDto> loadCommentTree(Integer postId, int size, Integer cursor) {
+		List<CommentDto> parents = commentRepository.findTopLevelComments(postId, size, cursor);
+		if (parents.isEmpty()) {
+			return parents;
+		}
 		
-		List<CommentDto> parentComments = new ArrayList<>();
-		for(int i=0; i<allComments.size(); i++) {
-			CommentDto c = allComments.get(i);
-			if(c.getParentCommentId() == null){
-				parentComments.add(c);
+		Map<Integer, CommentDto> parentsById = new LinkedHashMap<>();
+		for (CommentDto parent : parents) {
+			parent.setHasMoreReplies(false);
+			//대댓글이 없는 댓글은 조회 대상에서 제외
+			if (parent.getCommentCount() != null && parent.getCommentCount() > 0) {
+				parentsById.put(parent.getCommentId(), parent);
 			}
 		}
+		if (parentsById.isEmpty()) {
+			return parents;
+		}
 		
-		for(int i=0; i<parentComments.size(); i++) {
-			CommentDto parent = parentComments.get(i);
-			List<CommentDto> replies = new ArrayList<>();
-			for(int j=0; j<allComments.size(); j++) {
-				CommentDto c = allComments.get(j);
-				if(c.getParentCommentId() != null && c.getParentCommentId().equals(parent.getCommentId())) {
-					replies.add(c);
-				}
+		List<CommentDto> replies = commentRepository.findRepliesByParentIds(
+				new ArrayList<>(parentsById.keySet()), replyPreviewSize + 1);
+		for (CommentDto reply : replies) {
+			CommentDto parent = parentsById.get(reply.getParentCommentId());
+			if (parent == null) {
+				continue;
+			}
+			if (parent.getReplies().size() < replyPreviewSize) {
+				parent.getReplies().add(reply);
+			} else {
+				parent.setHasMoreReplies(true);
 			}
-			parent.setReplies(replies);
 		}
-		
-		return parentComments;
+		return parents;
+	}
+	
+	//작성자 프로필은 회원 프로필 캐시, 좋아요 수는 좋아요 카운터 값으로 채움
+	private void fillAuthorsAndLikes(List<CommentDto> comments) {
+		if (comments.isEmpty()) {
+			return;
+		}
+		Map<Integer, AuthorProfile> authors = memberProfileCache.getAll(
+				comments.stream().map(CommentDto::getCreatedBy).toList());
+		Map<Integer, Integer> likeCounts = likeCounter.getLikeCounts(LikeTargetType.COMMENT,
+				comments.stream().map(CommentDto::getCommentId).toList());
+		for (CommentDto comment : comments) {
+			AuthorProfile author = authors.get(comment.getCreatedBy());
+			if (author != null) {
+				comment.setAuthorName(author.getName());
+				comment.setAuthorNickname(author.getNickname());
+				comment.setProfileId(author.getProfileId());
+				comment.setProfileUrl(author.getProfileUrl());
+			}
+			comment.setLikeCount(likeCounts.getOrDefault(comment.getCommentId(), 0));
+		}
+	}
+	
+	private int pageSize(Integer size) {
+		if (size == null || size <= 0) {
+			return 20;
+		}
+		return Math.min(size, maxPageSize);
 	}
 	
 	//댓글 상세 조회
@@ -69,6 +152,7 @@ public class CommentService implements ICommentService {
 	@Override
 	public  void insertComment(CreateCommentRequest request) {
 		commentRepository.insertComment(request);
+		eventPublisher.publishEvent(ActivityEvent.of(LikeTargetType.POST, request.getPostId(), ActivityType.COMMENT));
 		
 		//대댓글일때 부모 댓글의 댓글개수가 올라감
 		if(request.getParentCommentId() != null) {
@@ -77,7 +161,7 @@ public class CommentService implements ICommentService {
 			//대댓글 작성시 부모 댓글 작성자에게 알림
 			CommentDto parentComment = commentRepository.findById(request.getParentCommentId());
 			if(parentComment != null && !parentComment.getCreatedBy().equals(request.getCreatedBy())) {
-				PostDetail post = postRepository.findPostDetail(request.getPostId());
+				PostDetail post = postDetailCache.get(request.getPostId());
 				
 				log.info("대댓글 알림 발송 - receiverId: {}, postId: {}", 
 				         parentComment.getCreatedBy(), request.getPostId());
@@ -89,12 +173,13 @@ public class CommentService implements ICommentService {
 							.content(post.getTitle() + " 게시글의 댓글에 답글이 달렸습니다.")
 							.linkUrl("/community/posts/" + request.getPostId())
 							.createdBy(request.getCreatedBy())
+							.kind(NotificationKind.REPLY)
 							.build()
 				);
 			}
 		}	else {
 			// 일반 댓글 작성 시 게시글 작성자에게 알림
-				PostDetail post = postRepository.findPostDetail(request.getPostId());
+				PostDetail post = postDetailCache.get(request.getPostId());
 				if (post != null && !post.getCreatedBy().equals(request.getCreatedBy())) {
 					log.info("댓글 알림 발송 - receiverId: {}, postId: {}", 
 					         post.getCreatedBy(), request.getPostId());
@@ -106,6 +191,7 @@ public class CommentService implements ICommentService {
 							.content(post.getTitle() + " 게시글에 댓글이 달렸습니다.")
 							.linkUrl("/community/posts/" + request.getPostId())
 							.createdBy(request.getCreatedBy())
+							.kind(NotificationKind.COMMENT)
 							.build()
 					);
 				}
@@ -113,6 +199,8 @@ public class CommentService implements ICommentService {
 		
 		//게시글의 댓글 수 증가
 		postRepository.increaseCommentCount(request.getPostId());
+		postDetailCache.evict(request.getPostId());
+		commentThreadCache.commentAdded(request.getPostId(), request.getCommentId());
 		log.info("작성 완료 - postId: {}", request.getPostId());
 	}
 
@@ -142,6 +230,7 @@ public class CommentService implements ICommentService {
 		if(updated == 0) {
 			throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "댓글 수정 실패");
 		}
+		commentThreadCache.commentUpdated(comment.getPostId(), commentId, content);
 		
 		log.info("댓글 수정 완료 - commentId: {}, postId: {}", commentId, comment.getPostId());
 	}
@@ -176,6 +265,8 @@ public class CommentService implements ICommentService {
 	            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "댓글 삭제에 실패했습니다");
 	        }
 	        postRepository.decreaseCommentCount(comment.getPostId()); //  -1
+	        postDetailCache.evict(comment.getPostId());
+	        commentThreadCache.commentMasked(comment.getPostId(), commentId);
 	        log.info("댓글 삭제 완료  - commentId: {}, postId: {}", commentId, comment.getPostId());
 	        return;
 	    }
@@ -189,12 +280,16 @@ public class CommentService implements ICommentService {
 	    if (comment.getParentCommentId() == null) {
 	        // 최상위(부모) 댓글 삭제: 줄 하나 사라짐 → -1
 	        postRepository.decreaseCommentCount(comment.getPostId()); //  -1
+	        postDetailCache.evict(comment.getPostId());
+	        commentThreadCache.commentRemoved(comment.getPostId(), commentId, null);
 	        log.info("댓글 삭제 완료 (댓글) - commentId: {}, postId: {}", commentId, comment.getPostId());
 	    } else {
 	        // 대댓글 삭제: 줄 하나 사라짐 → -1
 	        // 부모의 자식 수는 별도 유지(선택) → UI/플레이스홀더 로직 등에 사용
 	        commentRepository.decreaseCommentCount(comment.getParentCommentId());
 	        postRepository.decreaseCommentCount(comment.getPostId()); //  -1
+	        postDetailCache.evict(comment.getPostId());
+	        commentThreadCache.commentRemoved(comment.getPostId(), commentId, comment.getParentCommentId());
 	        log.info("댓글 삭제 완료 (대댓글) - commentId: {}, parentCommentId: {}, postId: {}", 
 	                 commentId, comment.getParentCommentId(), comment.getPostId());
 	        //  "삭제된 부모의 마지막 자식" 삭제 시 추가 -1 하지 않음
@@ -0,0 +1,323 @@
+package com.ggamakun.linkle.domain.comment.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.domain.comment.dto.CommentDto;
+import com.ggamakun.linkle.domain.comment.repository.ICommentRepository;
+import com.ggamakun.linkle.global.util.AfterCommit;
+import com.ggamakun.linkle.global.util.LoadGuard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 게시글별 댓글 첫 페이지 캐시 (postId -> 최상위 댓글 + 대댓글 미리보기 트리)
+ * - 작성자 프로필과 좋아요 수는 저장하지 않음 (응답 시 MemberProfileCache, LikeCounterEngine 값 사용)
+ * - 댓글 등록/수정/삭제는 커밋 후 캐시된 트리에 해당 댓글만 반영 (전체 무효화 없음)
+ * - 최상위 댓글은 comment_id 순 앞부분만 저장, 범위를 벗어난 요청은 DB에서 조회
+ * - 로드 중에 커밋된 변경은 반영 여부를 알 수 없어 해당 게시글만 무효화
+ * - 변경 시각은 트랜잭션 안(커밋 전)과 커밋 후 두 번 기록해서 그 사이에 로드된 트리는 무효화
+ */
+@Component
+public class CommentThreadCache {
+
+	private final ICommentRepository commentRepository;
+	private final int windowSize;
+	private final int previewSize;
+	private final Cache<Integer, PostThread> cache;
+	// 캐시에 없는 동안 커밋된 변경을 로드한 트리가 놓치지 않도록 커밋 시각 기록
+	private final LoadGuard loadGuard = new LoadGuard();
+
+	public CommentThreadCache(ICommentRepository commentRepository,
+			MeterRegistry meterRegistry,
+			@Value("${comment.page.max-size:50}") int windowSize,
+			@Value("${comment.replies.preview-size:3}") int previewSize,
+			@Value("${comment.thread-cache.max-size:5000}") long maxSize,
+			@Value("${comment.thread-cache.ttl-seconds:600}") long ttlSeconds) {
+		this.commentRepository = commentRepository;
+		this.windowSize = windowSize;
+		this.previewSize = previewSize;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "comment.thread.cache");
+	}
+
+	// 첫 페이지 복사본 (size개), 캐시 범위로 응답할 수 없으면 null
+	// loader는 windowSize개의 최상위 댓글과 대댓글 미리보기를 조립해서 반환
+	public List<CommentDto> firstPage(Integer postId, int size, Function<Integer, List<CommentDto>> loader) {
+		PostThread thread = loadGuard.get(cache, postId, id -> {
+			// DB 조회 전후 시각 (이 사이에 커밋된 변경은 포함 여부를 알 수 없음)
+			long loadStartedAt = System.nanoTime();
+			List<CommentDto> comments = loader.apply(id);
+			return new PostThread(comments, comments.size() < windowSize, loadStartedAt, System.nanoTime());
+		});
+		return thread.copy(size);
+	}
+
+	// 댓글 등록 반영
+	public void commentAdded(Integer postId, Integer commentId) {
+		long changedAt = System.nanoTime();
+		AfterCommit.run(() -> {
+			long committedAt = loadGuard.markChanged(postId);
+			PostThread cached = cache.getIfPresent(postId);
+			if (cached == null || cached.contains(commentId)) {
+				return;
+			}
+			// DB 조회는 compute 밖에서 (캐시 맵 잠금 중 JDBC 대기 방지)
+			CommentDto row = commentRepository.findCommentRow(commentId);
+			if (row == null) {
+				return;
+			}
+			apply(postId, changedAt, committedAt, thread -> {
+				if (thread.byId.containsKey(commentId)) {
+					return;
+				}
+				if (row.getParentCommentId() == null) {
+					thread.addTopLevel(row, windowSize);
+				} else {
+					thread.addReply(row, previewSize);
+				}
+			});
+		});
+	}
+
+	// 댓글 수정 반영
+	public void commentUpdated(Integer postId, Integer commentId, String content) {
+		afterCommit(postId, thread -> {
+			CommentDto comment = thread.byId.get(commentId);
+			if (comment != null) {
+				comment.setContent(content);
+			}
+		});
+	}
+
+	// 대댓글이 남아 있는 댓글 삭제 반영 (삭제된 댓글로 표시)
+	public void commentMasked(Integer postId, Integer commentId) {
+		afterCommit(postId, thread -> {
+			CommentDto comment = thread.byId.get(commentId);
+			if (comment != null) {
+				comment.setIsDeleted("Y");
+				comment.setContent(null);
+			}
+		});
+	}
+
+	// 댓글 삭제 반영 (목록에서 제거)
+	public void commentRemoved(Integer postId, Integer commentId, Integer parentCommentId) {
+		long changedAt = System.nanoTime();
+		AfterCommit.run(() -> {
+			long committedAt = loadGuard.markChanged(postId);
+			PostThread cached = cache.getIfPresent(postId);
+			if (cached == null) {
+				return;
+			}
+			// 미리보기를 채울 대댓글은 미리 조회 (부모 댓글이 캐시에 있을 때만)
+			List<CommentDto> replies = parentCommentId != null && cached.contains(parentCommentId)
+					? commentRepository.findReplies(parentCommentId, previewSize + 1, null)
+					: List.of();
+			apply(postId, changedAt, committedAt, thread -> {
+				if (parentCommentId == null) {
+					thread.removeTopLevel(commentId);
+					return;
+				}
+				CommentDto parent = thread.byId.get(parentCommentId);
+				if (parent == null) {
+					return;
+				}
+				boolean inPreview = thread.removeReply(parent, commentId);
+				if ("Y".equals(parent.getIsDeleted()) && PostThread.count(parent) <= 0) {
+					// 삭제된 댓글의 마지막 대댓글이 지워지면 댓글도 숨김
+					thread.removeTopLevel(parentCommentId);
+				} else if (inPreview && Boolean.TRUE.equals(parent.getHasMoreReplies())) {
+					// 미리보기에서 빠진 자리를 다음 대댓글로 채움
+					thread.replacePreview(parent, replies, previewSize);
+				}
+			});
+		});
+	}
+
+	// 커밋 후 캐시된 트리에 반영 (트랜잭션이 없으면 바로)
+	// change는 메모리 변경만 (DB 조회가 필요하면 apply 전에)
+	private void afterCommit(Integer postId, Consumer<PostThread> change) {
+		long changedAt = System.nanoTime();
+		AfterCommit.run(() -> apply(postId, changedAt, loadGuard.markChanged(postId), change));
+	}
+
+	// changedAt: 트랜잭션 안에서 변경을 요청한 시각 (실제 커밋 전), committedAt: 커밋 후 반영 시각
+	private void apply(Integer postId, long changedAt, long committedAt, Consumer<PostThread> change) {
+		cache.asMap().computeIfPresent(postId, (id, thread) -> {
+			if (thread.loadStartedAt >= committedAt) {
+				// 커밋 후에 로드되어 이미 포함됨
+				return thread;
+			}
+			if (thread.loadFinishedAt >= changedAt) {
+				// 커밋 전후에 걸쳐 로드되어 포함 여부를 알 수 없음
+				return null;
+			}
+			thread.lock.lock();
+			try {
+				change.accept(thread);
+			} finally {
+				thread.lock.unlock();
+			}
+			return thread;
+		});
+	}
+
+	private static CommentDto copyComment(CommentDto source) {
+		CommentDto target = new CommentDto();
+		BeanUtils.copyProperties(source, target, "replies");
+		return target;
+	}
+
+	/**
+	 * 게시글 한 건의 댓글 트리
+	 * - comments는 comment_id 순, complete가 false이면 마지막 댓글 이후는 캐시 범위 밖
+	 */
+	static final class PostThread {
+		private final List<CommentDto> comments;
+		// 최상위 댓글 + 미리보기 대댓글
+		private final Map<Integer, CommentDto> byId = new HashMap<>();
+		// 수에 반영한 대댓글 ID (미리보기 밖 대댓글이 두 번 더해지거나 빠지지 않도록)
+		private final Set<Integer> addedReplies = new HashSet<>();
+		private final Set<Integer> removedReplies = new HashSet<>();
+		private final long loadStartedAt;
+		private final long loadFinishedAt;
+		// 변경(apply)과 복사(copy)가 겹치지 않도록
+		private final ReentrantLock lock = new ReentrantLock();
+		private boolean complete;
+
+		PostThread(List<CommentDto> comments, boolean complete, long loadStartedAt, long loadFinishedAt) {
+			this.comments = new ArrayList<>(comments);
+			this.complete = complete;
+			this.loadStartedAt = loadStartedAt;
+			this.loadFinishedAt = loadFinishedAt;
+			for (CommentDto comment : comments) {
+				byId.put(comment.getCommentId(), comment);
+				comment.getReplies().forEach(reply -> byId.put(reply.getCommentId(), reply));
+			}
+		}
+
+		boolean contains(Integer commentId) {
+			lock.lock();
+			try {
+				return byId.containsKey(commentId);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		List<CommentDto> copy(int size) {
+			lock.lock();
+			try {
+				if (comments.size() < size && !complete) {
+					return null;
+				}
+				List<CommentDto> result = new ArrayList<>();
+				for (CommentDto comment : comments.subList(0, Math.min(size, comments.size()))) {
+					CommentDto parent = copyComment(comment);
+					comment.getReplies().forEach(reply -> parent.getReplies().add(copyComment(reply)));
+					result.add(parent);
+				}
+				return result;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		// 새 댓글은 comment_id가 가장 크므로 전체를 담고 있을 때만 추가
+		// (동시에 등록된 댓글은 커밋 순서가 바뀔 수 있어 comment_id 위치에 넣음)
+		void addTopLevel(CommentDto comment, int windowSize) {
+			if (!complete) {
+				return;
+			}
+			if (comments.size() >= windowSize) {
+				complete = false;
+				return;
+			}
+			comment.setHasMoreReplies(false);
+			int index = comments.size();
+			while (index > 0 && comments.get(index - 1).getCommentId() > comment.getCommentId()) {
+				index--;
+			}
+			comments.add(index, comment);
+			byId.put(comment.getCommentId(), comment);
+		}
+
+		void addReply(CommentDto reply, int previewSize) {
+			CommentDto parent = byId.get(reply.getParentCommentId());
+			if (parent == null || parent.getParentCommentId() != null) {
+				return;
+			}
+			Integer replyId = reply.getCommentId();
+			if (byId.containsKey(replyId) || removedReplies.contains(replyId) || !addedReplies.add(replyId)) {
+				return;
+			}
+			parent.setCommentCount(count(parent) + 1);
+			if (parent.getReplies().size() < previewSize) {
+				List<CommentDto> replies = parent.getReplies();
+				int index = replies.size();
+				while (index > 0 && replies.get(index - 1).getCommentId() > reply.getCommentId()) {
+					index--;
+				}
+				replies.add(index, reply);
+				byId.put(reply.getCommentId(), reply);
+			} else {
+				parent.setHasMoreReplies(true);
+			}
+		}
+
+		void removeTopLevel(Integer commentId) {
+			CommentDto comment = byId.remove(commentId);
+			if (comment == null) {
+				return;
+			}
+			comments.remove(comment);
+			comment.getReplies().forEach(reply -> byId.remove(reply.getCommentId()));
+		}
+
+		// 미리보기에 있던 대댓글이면 true
+		boolean removeReply(CommentDto parent, Integer replyId) {
+			if (!removedReplies.add(replyId)) {
+				return false;
+			}
+			parent.setCommentCount(Math.max(0, count(parent) - 1));
+			CommentDto reply = byId.remove(replyId);
+			boolean inPreview = reply != null && parent.getReplies().remove(reply);
+			parent.setHasMoreReplies(count(parent) > parent.getReplies().size());
+			return inPreview;
+		}
+
+		void replacePreview(CommentDto parent, List<CommentDto> replies, int previewSize) {
+			parent.getReplies().forEach(reply -> byId.remove(reply.getCommentId()));
+			parent.getReplies().clear();
+			for (CommentDto reply : replies.subList(0, Math.min(previewSize, replies.size()))) {
+				parent.getReplies().add(reply);
+				byId.put(reply.getCommentId(), reply);
+			}
+			parent.setHasMoreReplies(replies.size() > previewSize);
+		}
+
+		static int count(CommentDto comment) {
+			return comment.getCommentCount() == null ? 0 : comment.getCommentCount();
+		}
+	}
+}
@@ -7,8 +7,11 @@ import com.ggamakun.linkle.domain.comment.dto.CreateCommentRequest;
 
 public interface ICommentService {
 	
-	//댓글 목록 조회
-	List<CommentDto> getCommentbyPostId(Integer postId);
+	//댓글 목록 조회 (최상위 댓글 페이지 + 미리보기 대댓글)
+	List<CommentDto> getCommentbyPostId(Integer postId, Integer size, Integer cursor);
+	
+	//대댓글 더보기
+	List<CommentDto> getReplies(Integer parentCommentId, Integer size, Integer cursor);
 	
 	//댓글 상세 조회
 	CommentDto getCommentbyId(Integer commentId);
@@ -0,0 +1,37 @@
+package com.ggamakun.linkle.domain.feed.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ggamakun.linkle.domain.feed.dto.HomeFeedItem;
+import com.ggamakun.linkle.domain.feed.service.IFeedService;
+import com.ggamakun.linkle.global.security.CustomUserDetails;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/feed")
+@Tag(name = "피드", description = "홈 피드 API")
+public class FeedController {
+
+	private final IFeedService feedService;
+
+	//가입한 동호회의 새 글
+	@GetMapping("/home")
+	public ResponseEntity<List<HomeFeedItem>> getHomeFeed(
+			@RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+			@RequestParam(value = "cursor", required = false) Integer cursor,
+			@Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+		Integer memberId = userDetails.getMember().getMemberId();
+		return ResponseEntity.ok(feedService.getHomeFeed(memberId, size, cursor));
+	}
+}
@@ -0,0 +1,28 @@
+package com.ggamakun.linkle.domain.feed.dto;
+
+import java.sql.Date;
+
+import lombok.Data;
+
+/**
+ * 홈 피드 항목 (가입한 동호회의 게시글/공지사항)
+ */
+@Data
+public class HomeFeedItem {
+
+	private Integer postId;
+	private Integer clubId;
+	private String clubName;
+	// P: 게시글, N: 공지사항
+	private String postType;
+	private String images;
+	private String title;
+	// 본문 앞부분
+	private String excerpt;
+	private Integer viewCount;
+	private Integer likeCount;
+	private Integer commentCount;
+	private Date createdAt;
+	private Integer createdBy;
+	private String authorNickname;
+}
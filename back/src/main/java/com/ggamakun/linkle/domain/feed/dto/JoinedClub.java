@@ -0,0 +1,13 @@
+package com.ggamakun.linkle.domain.feed.dto;
+
+import lombok.Data;
+
+/**
+ * 회원이 가입한 동호회와 승인된 회원 수 (홈 피드 fan-out 방식 결정용)
+ */
+@Data
+public class JoinedClub {
+
+	private Integer clubId;
+	private Integer memberCount;
+}
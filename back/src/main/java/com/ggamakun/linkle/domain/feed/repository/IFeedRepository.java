@@ -0,0 +1,35 @@
+package com.ggamakun.linkle.domain.feed.repository;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.ggamakun.linkle.domain.feed.dto.HomeFeedItem;
+import com.ggamakun.linkle.domain.feed.dto.JoinedClub;
+
+@Mapper
+public interface IFeedRepository {
+
+	//동호회의 승인된 회원 수
+	int countApprovedMembers(@Param("clubId") Integer clubId);
+
+	//동호회 회원 전체의 홈 타임라인에 게시글 추가
+	int appendToClubTimelines(@Param("clubId") Integer clubId, @Param("postId") Integer postId);
+
+	//회원이 가입한 동호회 목록
+	List<JoinedClub> findJoinedClubs(@Param("memberId") Integer memberId);
+
+	//홈 타임라인 게시글 ID (cursor보다 작은 ID부터 size개, 최신순)
+	List<Integer> findTimelinePostIds(@Param("memberId") Integer memberId, @Param("size") Integer size, @Param("cursor") Integer cursor);
+
+	//대형 동호회 게시글 ID (타임라인에 저장하지 않는 동호회는 조회 시 직접 읽음)
+	List<Integer> findClubPostIds(@Param("clubIds") List<Integer> clubIds, @Param("size") Integer size, @Param("cursor") Integer cursor);
+
+	//피드 항목 조회 (삭제된 글, 탈퇴한 동호회 글 제외, 최신순)
+	List<HomeFeedItem> findFeedItems(@Param("memberId") Integer memberId, @Param("postIds") List<Integer> postIds,
+			@Param("excerptLength") int excerptLength);
+
+	//오래된 타임라인 항목 삭제 (batchSize건씩)
+	int deleteTimelineBefore(@Param("days") int days, @Param("batchSize") int batchSize);
+}
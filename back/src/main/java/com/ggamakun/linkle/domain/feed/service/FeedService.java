@@ -0,0 +1,135 @@
+package com.ggamakun.linkle.domain.feed.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.ggamakun.linkle.domain.feed.dto.HomeFeedItem;
+import com.ggamakun.linkle.domain.feed.repository.IFeedRepository;
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.like.service.LikeCounterEngine;
+import com.ggamakun.linkle.domain.post.service.ViewCountBuffer;
+import com.ggamakun.linkle.global.util.AfterCommit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 홈 피드 (가입한 동호회의 새 글 모아보기)
+ * - 게시글 등록 시 동호회 회원의 HOME_TIMELINE에 저장 (fan-out-on-write)
+ * - 회원 수가 많은 동호회는 저장하지 않고 조회 시 동호회 글을 직접 읽음 (fan-out-on-read)
+ * - 조회는 페이지 크기만큼의 ID를 모은 뒤 ID로만 게시글을 읽음 (POST 전체 정렬 없음)
+ * - 읽을 수 없는 글이 빠져 페이지가 모자라면 다음 ID 범위를 이어서 읽음
+ */
+@Service
+@Slf4j
+public class FeedService implements IFeedService {
+
+	private final IFeedRepository feedRepository;
+	private final HomeTimeline homeTimeline;
+	private final LikeCounterEngine likeCounter;
+	private final ViewCountBuffer viewCountBuffer;
+	private final int maxSize;
+	private final int excerptLength;
+	private final int retentionDays;
+	private final int retentionBatchSize;
+
+	public FeedService(IFeedRepository feedRepository,
+			HomeTimeline homeTimeline,
+			LikeCounterEngine likeCounter,
+			ViewCountBuffer viewCountBuffer,
+			@Value("${feed.home.max-size:50}") int maxSize,
+			@Value("${post.feed.excerpt-length:300}") int excerptLength,
+			@Value("${feed.timeline.retention-days:30}") int retentionDays,
+			@Value("${feed.timeline.retention-batch-size:5000}") int retentionBatchSize) {
+		this.feedRepository = feedRepository;
+		this.homeTimeline = homeTimeline;
+		this.likeCounter = likeCounter;
+		this.viewCountBuffer = viewCountBuffer;
+		this.maxSize = maxSize;
+		this.excerptLength = excerptLength;
+		this.retentionDays = retentionDays;
+		this.retentionBatchSize = retentionBatchSize;
+	}
+
+	@Override
+	public List<HomeFeedItem> getHomeFeed(Integer memberId, Integer size, Integer cursor) {
+		if (size == null || size <= 0) {
+			size = 20;
+		}
+		size = Math.min(size, maxSize);
+
+		// 삭제/탈퇴 등으로 빠지는 글이 있으면 다음 ID 범위를 이어서 읽어 페이지를 채움
+		List<HomeFeedItem> items = new ArrayList<>();
+		List<Integer> largeClubIds = homeTimeline.largeClubIds(memberId);
+		Integer scanCursor = cursor;
+		while (items.size() < size) {
+			List<Integer> page = nextPostIds(memberId, largeClubIds, scanCursor, size);
+			if (page.isEmpty()) {
+				break;
+			}
+			List<HomeFeedItem> found = feedRepository.findFeedItems(memberId, page, excerptLength);
+			items.addAll(found.subList(0, Math.min(size - items.size(), found.size())));
+			if (page.size() < size) {
+				//타임라인과 대형 동호회 글을 모두 읽음
+				break;
+			}
+			scanCursor = page.get(page.size() - 1);
+		}
+
+		for (HomeFeedItem item : items) {
+			//아직 DB에 반영되지 않은 좋아요/조회수 포함
+			item.setLikeCount(likeCounter.withPending(LikeTargetType.POST, item.getPostId(), item.getLikeCount()));
+			item.setViewCount(viewCountBuffer.withPending(item.getPostId(), item.getViewCount()));
+		}
+		return items;
+	}
+
+	// cursor 이전 게시글 ID를 최신 순으로 최대 size개 (타임라인 + 대형 동호회 글)
+	private List<Integer> nextPostIds(Integer memberId, List<Integer> largeClubIds, Integer cursor, int size) {
+		TreeSet<Integer> postIds = new TreeSet<>(Comparator.reverseOrder());
+		List<Integer> timeline = homeTimeline.page(memberId, cursor, size);
+		if (timeline == null) {
+			//버퍼 범위를 벗어난 페이지
+			timeline = feedRepository.findTimelinePostIds(memberId, size, cursor);
+		}
+		postIds.addAll(timeline);
+		if (!largeClubIds.isEmpty()) {
+			postIds.addAll(feedRepository.findClubPostIds(largeClubIds, size, cursor));
+		}
+		List<Integer> sorted = new ArrayList<>(postIds);
+		return sorted.subList(0, Math.min(size, sorted.size()));
+	}
+
+	@Override
+	public void publish(Integer clubId, Integer postId) {
+		if (clubId == null || postId == null) {
+			return;
+		}
+		if (homeTimeline.isLargeClub(feedRepository.countApprovedMembers(clubId))) {
+			log.debug("대형 동호회라 타임라인 저장 생략 - clubId: {}, postId: {}", clubId, postId);
+			return;
+		}
+		//게시글 INSERT와 같은 트랜잭션에서 저장, 메모리 버퍼는 커밋 후 반영
+		int appended = feedRepository.appendToClubTimelines(clubId, postId);
+		log.debug("홈 타임라인 저장 - clubId: {}, postId: {}, 회원: {}명", clubId, postId, appended);
+		AfterCommit.run(() -> homeTimeline.append(clubId, postId));
+	}
+
+	//보관 기간이 지난 타임라인 항목 정리
+	@Scheduled(cron = "${feed.timeline.retention-cron:0 0 5 * * *}")
+	public void purgeOldEntries() {
+		long startedAt = System.currentTimeMillis();
+		int total = 0;
+		int deleted;
+		do {
+			deleted = feedRepository.deleteTimelineBefore(retentionDays, retentionBatchSize);
+			total += deleted;
+		} while (deleted == retentionBatchSize);
+		log.info("홈 타임라인 정리 완료 - 삭제: {}건, 소요: {}ms", total, System.currentTimeMillis() - startedAt);
+	}
+}
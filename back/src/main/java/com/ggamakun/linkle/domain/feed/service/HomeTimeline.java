@@ -0,0 +1,200 @@
+package com.ggamakun.linkle.domain.feed.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.domain.feed.dto.JoinedClub;
+import com.ggamakun.linkle.domain.feed.repository.IFeedRepository;
+import com.ggamakun.linkle.global.util.AfterCommit;
+import com.ggamakun.linkle.global.util.LoadGuard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 최근 활동 회원의 홈 타임라인 (회원별 게시글 ID 링 버퍼)
+ * - 처음 조회 시 HOME_TIMELINE에서 최근 ringSize개와 가입 동호회 목록을 로드
+ * - 게시글 등록 커밋 후 해당 동호회 회원 중 캐시에 있는 회원의 버퍼에 추가 (동호회별 캐시된 버퍼 색인 사용)
+ * - 버퍼 범위를 벗어난 페이지는 HOME_TIMELINE에서 조회
+ * - 가입/승인/탈퇴/강퇴/동호회 삭제 시 해당 회원 무효화, 놓친 변경은 로드 후 ttl이 지나면 다시 로드
+ */
+@Component
+public class HomeTimeline {
+
+	private final IFeedRepository feedRepository;
+	private final int ringSize;
+	private final int largeClubMembers;
+	private final Cache<Integer, MemberTimeline> cache;
+	// 동호회 ID -> 캐시된 회원 버퍼 (버퍼 인스턴스 기준이라 재로드와 제거 알림이 겹쳐도 새 버퍼는 빠지지 않음)
+	private final Map<Integer, Set<MemberTimeline>> timelinesByClub = new ConcurrentHashMap<>();
+	// 로드 중에 무효화된 회원의 버퍼는 캐시에 남기지 않음
+	private final LoadGuard loadGuard = new LoadGuard();
+
+	public HomeTimeline(IFeedRepository feedRepository,
+			MeterRegistry meterRegistry,
+			@Value("${feed.timeline.ring-size:200}") int ringSize,
+			@Value("${feed.timeline.large-club-members:1000}") int largeClubMembers,
+			@Value("${feed.timeline.max-members:50000}") long maxMembers,
+			@Value("${feed.timeline.ttl-minutes:10}") long ttlMinutes) {
+		this.feedRepository = feedRepository;
+		this.ringSize = ringSize;
+		this.largeClubMembers = largeClubMembers;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxMembers)
+				.expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+				.removalListener((Integer memberId, MemberTimeline timeline, RemovalCause cause) -> unindex(timeline))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "feed.timeline.cache");
+	}
+
+	// 회원 수가 많아 조회 시 직접 읽는 동호회인지
+	public boolean isLargeClub(int memberCount) {
+		return memberCount > largeClubMembers;
+	}
+
+	// 타임라인 페이지 (버퍼로 응답할 수 없으면 null)
+	public List<Integer> page(Integer memberId, Integer cursor, int size) {
+		return get(memberId).page(cursor, size);
+	}
+
+	// 조회 시 직접 읽어야 하는 대형 동호회 ID
+	public List<Integer> largeClubIds(Integer memberId) {
+		return get(memberId).largeClubIds;
+	}
+
+	// 동호회 회원 중 캐시에 있는 회원의 버퍼에 게시글 추가
+	public void append(Integer clubId, Integer postId) {
+		Set<MemberTimeline> timelines = timelinesByClub.get(clubId);
+		if (timelines != null) {
+			timelines.forEach(timeline -> timeline.add(postId));
+		}
+	}
+
+	// 회원 캐시 무효화 (동호회 가입/탈퇴 등, 커밋 전 로드된 값도 지우도록 완료 후 한 번 더)
+	public void evict(Integer memberId) {
+		if (memberId != null) {
+			AfterCommit.nowAndAfterCompletion(() -> {
+				loadGuard.markChanged(memberId);
+				cache.invalidate(memberId);
+			});
+		}
+	}
+
+	// DB 조회는 캐시 compute 밖에서, 먼저 들어간 버퍼가 있으면 새로 만든 버퍼는 색인에서 뺌
+	private MemberTimeline get(Integer memberId) {
+		return loadGuard.get(cache, memberId, this::load, this::unindex);
+	}
+
+	private MemberTimeline load(Integer memberId) {
+		Set<Integer> clubIds = new HashSet<>();
+		List<Integer> largeClubIds = new ArrayList<>();
+		for (JoinedClub club : feedRepository.findJoinedClubs(memberId)) {
+			clubIds.add(club.getClubId());
+			if (isLargeClub(club.getMemberCount())) {
+				largeClubIds.add(club.getClubId());
+			}
+		}
+		List<Integer> recent = feedRepository.findTimelinePostIds(memberId, ringSize, null);
+		MemberTimeline timeline = new MemberTimeline(ringSize, clubIds, List.copyOf(largeClubIds), recent.size() < ringSize);
+		// 오래된 것부터 넣어야 최신 글이 앞에 옴
+		for (int i = recent.size() - 1; i >= 0; i--) {
+			timeline.add(recent.get(i));
+		}
+		// append가 찾을 수 있도록 동호회별 색인에 등록 (빈 Set 제거와 겹치지 않게 compute 안에서)
+		for (Integer clubId : clubIds) {
+			timelinesByClub.compute(clubId, (id, timelines) -> {
+				Set<MemberTimeline> result = timelines == null ? ConcurrentHashMap.newKeySet() : timelines;
+				result.add(timeline);
+				return result;
+			});
+		}
+		return timeline;
+	}
+
+	private void unindex(MemberTimeline timeline) {
+		if (timeline == null) {
+			return;
+		}
+		for (Integer clubId : timeline.clubIds) {
+			timelinesByClub.computeIfPresent(clubId, (id, timelines) -> {
+				timelines.remove(timeline);
+				return timelines.isEmpty() ? null : timelines;
+			});
+		}
+	}
+
+	/**
+	 * 회원 한 명의 링 버퍼 (가득 차면 가장 오래된 ID부터 덮어씀)
+	 */
+	static final class MemberTimeline {
+		private final int[] ring;
+		private final Set<Integer> clubIds;
+		private final List<Integer> largeClubIds;
+		// 가장 최근 ID 위치
+		private int head;
+		private int count;
+		// 버퍼가 타임라인 전체를 담고 있으면 true
+		private boolean complete;
+		private final ReentrantLock lock = new ReentrantLock();
+
+		MemberTimeline(int capacity, Set<Integer> clubIds, List<Integer> largeClubIds, boolean complete) {
+			this.ring = new int[capacity];
+			this.clubIds = clubIds;
+			this.largeClubIds = largeClubIds;
+			this.complete = complete;
+		}
+
+		void add(int postId) {
+			lock.lock();
+			try {
+				head = (head - 1 + ring.length) % ring.length;
+				ring[head] = postId;
+				if (count < ring.length) {
+					count++;
+				} else {
+					complete = false;
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		List<Integer> page(Integer cursor, int size) {
+			// 커밋 순서가 바뀌거나 로드와 추가가 겹친 ID가 있을 수 있어 정렬/중복 제거
+			TreeSet<Integer> ids = new TreeSet<>(Comparator.reverseOrder());
+			boolean whole;
+			lock.lock();
+			try {
+				for (int i = 0; i < count; i++) {
+					int postId = ring[(head + i) % ring.length];
+					if (cursor == null || postId < cursor) {
+						ids.add(postId);
+					}
+				}
+				whole = complete;
+			} finally {
+				lock.unlock();
+			}
+			List<Integer> sorted = new ArrayList<>(ids);
+			if (sorted.size() >= size) {
+				return sorted.subList(0, size);
+			}
+			return whole ? sorted : null;
+		}
+	}
+}
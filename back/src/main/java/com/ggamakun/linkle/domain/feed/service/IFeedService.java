@@ -0,0 +1,14 @@
+package com.ggamakun.linkle.domain.feed.service;
+
+import java.util.List;
+
+import com.ggamakun.linkle.domain.feed.dto.HomeFeedItem;
+
+public interface IFeedService {
+
+	//가입한 동호회의 게시글/공지사항 (최신순, cursor 게시글 이후 size개)
+	List<HomeFeedItem> getHomeFeed(Integer memberId, Integer size, Integer cursor);
+
+	//새 게시글/공지사항을 동호회 회원의 홈 타임라인에 추가
+	void publish(Integer clubId, Integer postId);
+}
@@ -17,6 +17,9 @@ import org.springframework.web.bind.annotation.RestController;
 import com.ggamakun.linkle.domain.gallery.dto.CreateGalleryRequest;
 import com.ggamakun.linkle.domain.gallery.dto.GalleryDto;
 import com.ggamakun.linkle.domain.gallery.service.IGalleryService;
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.trending.dto.TrendingItem;
+import com.ggamakun.linkle.domain.trending.service.ITrendingService;
 import com.ggamakun.linkle.global.security.CustomUserDetails;
 
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,14 +30,24 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/gallery")
 public class GalleryController {
 	private final IGalleryService galleryService;
+	private final ITrendingService trendingService;
 	
 	//갤러리 목록 조회
 	@GetMapping("list")
-	public List<GalleryDto> galleryList(@RequestParam(name = "clubId", required = false) Integer clubId){
+	public List<GalleryDto> galleryList(@RequestParam(name = "clubId", required = false) Integer clubId, @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails){
 		if(clubId != null) {
 			return galleryService.galleryListByClubId(clubId);
 		}
-		return galleryService.galleryList();
+		//로그인한 경우 좋아요 여부 포함
+		Integer memberId = userDetails != null ? userDetails.getMember().getMemberId() : null;
+		return galleryService.galleryList(memberId);
+	}
+	
+	//인기 갤러리 (window: 1h, 24h, 7d)
+	@GetMapping("/trending")
+	public List<TrendingItem> trending(@RequestParam(name = "window", defaultValue = "24h") String window,
+			@RequestParam(name = "limit", defaultValue = "20") int limit){
+		return trendingService.getTrending(LikeTargetType.GALLERY, window, limit);
 	}
 	
 	//갤러리 상세 조회
@@ -16,5 +16,7 @@ public class GalleryDto {
 	private Integer likeCount;
 	private String memberProfileImage;
 	private String clubProfileImage;
+	// 로그인한 회원의 좋아요 여부 (목록 조회, 비로그인이면 null)
+	private Boolean likedByMe;
 	
 }
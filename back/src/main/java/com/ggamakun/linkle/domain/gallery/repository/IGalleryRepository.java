@@ -12,7 +12,7 @@ import com.ggamakun.linkle.domain.gallery.dto.GalleryDto;
 public interface IGalleryRepository {
 
 	//갤러리 리스트 조회
-	List<GalleryDto> galleryList();
+	List<GalleryDto> galleryList(@Param("memberId") Integer memberId);
 	
 	//동호회별 갤러리 리스트 조회
 	List<GalleryDto> galleryListByClubId(@Param("clubId") Integer clubId);
@@ -7,10 +7,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import com.ggamakun.linkle.domain.club.repository.IClubRepository;
+import com.ggamakun.linkle.domain.club.service.ClubAccessService;
 import com.ggamakun.linkle.domain.gallery.dto.CreateGalleryRequest;
 import com.ggamakun.linkle.domain.gallery.dto.GalleryDto;
 import com.ggamakun.linkle.domain.gallery.repository.IGalleryRepository;
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.like.service.LikeCounterEngine;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,12 +21,18 @@ import lombok.RequiredArgsConstructor;
 public class GalleryService implements IGalleryService
 {
 	private final IGalleryRepository galleryRepository;
-	private final IClubRepository clubRepository;
+	private final ClubAccessService clubAccessService;
+	private final LikeCounterEngine likeCounter;
 	
 	@Override
-	public List<GalleryDto> galleryList() {
+	public List<GalleryDto> galleryList(Integer memberId) {
 		
-		return galleryRepository.galleryList();
+		List<GalleryDto> list = galleryRepository.galleryList(memberId);
+		//아직 DB에 반영되지 않은 좋아요 증감량 포함
+		for (GalleryDto gallery : list) {
+			gallery.setLikeCount(likeCounter.withPending(LikeTargetType.GALLERY, gallery.getGalleryId(), gallery.getLikeCount()));
+		}
+		return list;
 	}
 	
 	@Override
@@ -64,10 +72,8 @@ public class GalleryService implements IGalleryService
 		}
 		
 		//작성자가 아닌 경우 동호회 역할 확인
-		String role = clubRepository.getMemberRole(gallery.getClubId(), memberId);
-		
 		//모임장 또는 운영진인 경우 삭제 허용
-		if("LEADER".equals(role) || "MANAGER".equals(role)) {
+		if(clubAccessService.getAccess(gallery.getClubId(), memberId).isManagerOrAbove()) {
 			int deleted = galleryRepository.deleteGallery(galleryId, memberId);
 			if(deleted == 0) {
 				throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,"게시글 삭제에 실패했다.");
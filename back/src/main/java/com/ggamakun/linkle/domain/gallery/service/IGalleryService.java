@@ -7,7 +7,7 @@ import com.ggamakun.linkle.domain.gallery.dto.GalleryDto;
 
 public interface IGalleryService {
 
-	List<GalleryDto> galleryList();
+	List<GalleryDto> galleryList(Integer memberId);
 
 	GalleryDto getGallery(Integer galleryId);
 
@@ -0,0 +1,37 @@
+package com.ggamakun.linkle.domain.like.controller;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ggamakun.linkle.domain.like.dto.LikeStatusRequest;
+import com.ggamakun.linkle.domain.like.dto.LikeStatusResponse;
+import com.ggamakun.linkle.domain.like.service.ILikeService;
+import com.ggamakun.linkle.global.security.CustomUserDetails;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/likes")
+@Tag(name="좋아요", description="좋아요 상태 일괄 조회 API")
+public class LikeStatusController {
+	private final ILikeService likeService;
+	
+	@PostMapping("/status")
+	@Operation(
+			summary = "좋아요 상태 일괄 조회", 
+			description = "게시글/댓글/갤러리 ID 목록의 좋아요 여부와 좋아요 수를 한 번에 조회합니다. (로그인 필수)",
+			security = @SecurityRequirement(name = "JWT")
+		)
+	public LikeStatusResponse statuses(@RequestBody LikeStatusRequest request, @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+		Integer memberId = userDetails.getMember().getMemberId();
+		return likeService.getStatuses(request, memberId);
+	}
+}
@@ -0,0 +1,12 @@
+package com.ggamakun.linkle.domain.like.dto;
+
+import lombok.Data;
+
+/**
+ * 대상별 좋아요 수
+ */
+@Data
+public class LikeCount {
+	private Integer targetId;
+	private Integer likeCount;
+}
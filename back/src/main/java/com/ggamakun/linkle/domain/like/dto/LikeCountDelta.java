@@ -0,0 +1,14 @@
+package com.ggamakun.linkle.domain.like.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 좋아요 수 일괄 반영용 (대상 ID, 증감량)
+ */
+@Data
+@AllArgsConstructor
+public class LikeCountDelta {
+	private Integer targetId;
+	private long delta;
+}
@@ -0,0 +1,15 @@
+package com.ggamakun.linkle.domain.like.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * 좋아요 상태 일괄 조회 요청 (타입별 대상 ID 목록)
+ */
+@Data
+public class LikeStatusRequest {
+	private List<Integer> postIds;
+	private List<Integer> commentIds;
+	private List<Integer> galleryIds;
+}
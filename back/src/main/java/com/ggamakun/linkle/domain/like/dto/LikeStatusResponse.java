@@ -0,0 +1,17 @@
+package com.ggamakun.linkle.domain.like.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 좋아요 상태 일괄 조회 결과 (타입별 대상 ID -> 좋아요 여부, 좋아요 수)
+ */
+@Data
+@AllArgsConstructor
+public class LikeStatusResponse {
+	private Map<Integer, LikeResponseDto> posts;
+	private Map<Integer, LikeResponseDto> comments;
+	private Map<Integer, LikeResponseDto> galleries;
+}
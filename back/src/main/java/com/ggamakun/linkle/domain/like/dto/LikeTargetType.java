@@ -0,0 +1,17 @@
+package com.ggamakun.linkle.domain.like.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * LIKE_LOG.TARGET_TYPE 코드
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LikeTargetType {
+	POST("P"),
+	COMMENT("C"),
+	GALLERY("G");
+
+	private final String code;
+}
@@ -0,0 +1,27 @@
+package com.ggamakun.linkle.domain.like.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좋아요 토글 파라미터 / 결과
+ * - liked는 토글 후 상태 ('Y' 좋아요, 'N' 취소), 프로시저 OUT 파라미터로 채워짐
+ */
+@Data
+@NoArgsConstructor
+public class LikeToggle {
+	private String targetType;
+	private Integer targetId;
+	private Integer memberId;
+	private String liked;
+
+	public LikeToggle(LikeTargetType targetType, Integer targetId, Integer memberId) {
+		this.targetType = targetType.getCode();
+		this.targetId = targetId;
+		this.memberId = memberId;
+	}
+
+	public boolean isLikedNow() {
+		return "Y".equals(liked);
+	}
+}
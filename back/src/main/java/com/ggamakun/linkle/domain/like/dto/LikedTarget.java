@@ -0,0 +1,12 @@
+package com.ggamakun.linkle.domain.like.dto;
+
+import lombok.Data;
+
+/**
+ * 회원이 좋아요한 대상 (TARGET_TYPE, TARGET_ID)
+ */
+@Data
+public class LikedTarget {
+	private String targetType;
+	private Integer targetId;
+}
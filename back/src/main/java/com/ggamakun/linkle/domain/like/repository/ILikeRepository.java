@@ -1,29 +1,34 @@
 package com.ggamakun.linkle.domain.like.repository;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.ggamakun.linkle.domain.like.dto.LikeCount;
+import com.ggamakun.linkle.domain.like.dto.LikeCountDelta;
+import com.ggamakun.linkle.domain.like.dto.LikeToggle;
+import com.ggamakun.linkle.domain.like.dto.LikedTarget;
+
 @Mapper
 public interface ILikeRepository {
-	int cancelPostLike(@Param("postId") Integer postId, @Param("memberId") Integer memberId);
-	int insertPostLike(@Param("postId") Integer postId, @Param("memberId") Integer memberId);
-	int countPostLikes(@Param("postId") Integer postId);
-	int existsPostLike(@Param("postId") Integer postId, @Param("memberId") Integer memberId);
-	int reactivatePostLike(@Param("postId") Integer postId, @Param("memberId") Integer memberId);
-	
-	
-	int cancelCommentLike(@Param("commentId") Integer commentId, @Param("memberId") Integer memberId);
-	int insertCommentLike(@Param("commentId") Integer commentId, @Param("memberId") Integer memberId);
-	int existsCommentLike(@Param("commentId") Integer commentId, @Param("memberId") Integer memberId);
-	int reactivateCommentLike(@Param("commentId") Integer commentId, @Param("memberId") Integer memberId);
+	// 좋아요 토글 (대상 타입 P/C/G 공통, 결과 상태는 toggle.liked에 채워짐)
+	void toggleLike(LikeToggle toggle);
 	
-	// 갤러리 좋아요 취소
-	int cancelGalleryLike(@Param("galleryId") Integer galleryId, @Param("memberId") Integer memberId);
-	// 갤러리 좋아요 재활성화
-	int reactivateGalleryLike(@Param("galleryId") Integer galleryId, @Param("memberId") Integer memberId);
-	// 갤러리 좋아요 추가
-	void insertGalleryLike(@Param("galleryId") Integer galleryId, @Param("memberId") Integer memberId);
-	// 갤러리 좋아요 존재 여부
-	int existsGalleryLike(@Param("galleryId") Integer galleryId, @Param("memberId") Integer memberId);
+	// 회원이 좋아요한 전체 대상 (최대 limit건)
+	List<LikedTarget> findAllLikedTargets(@Param("memberId") Integer memberId, @Param("limit") int limit);
+	// 목록 대상 중 회원이 좋아요한 대상 (타입별 ID 목록을 한 번에 조회)
+	List<LikedTarget> findLikedTargets(@Param("memberId") Integer memberId,
+			@Param("postIds") List<Integer> postIds,
+			@Param("commentIds") List<Integer> commentIds,
+			@Param("galleryIds") List<Integer> galleryIds);
 	
+	// 대상(P/C/G)의 현재 좋아요 수 (POST/COMMENTS/GALLERY.LIKE_COUNT)
+	Integer getTargetLikeCount(@Param("targetType") String targetType, @Param("targetId") Integer targetId);
+	// 대상 목록의 현재 좋아요 수
+	List<LikeCount> findTargetLikeCounts(@Param("targetType") String targetType, @Param("targetIds") List<Integer> targetIds);
+	// 누적된 좋아요 증감량 일괄 반영
+	int addLikeCounts(@Param("targetType") String targetType, @Param("deltas") List<LikeCountDelta> deltas);
+	// 최근 좋아요 이력이 있는 대상의 좋아요 수를 LIKE_LOG 기준으로 재계산
+	int rebuildLikeCounts(@Param("targetType") String targetType, @Param("windowMinutes") int windowMinutes);
 }
@@ -1,6 +1,8 @@
 package com.ggamakun.linkle.domain.like.service;
 
 import com.ggamakun.linkle.domain.like.dto.LikeResponseDto;
+import com.ggamakun.linkle.domain.like.dto.LikeStatusRequest;
+import com.ggamakun.linkle.domain.like.dto.LikeStatusResponse;
 
 public interface ILikeService {
 
@@ -14,4 +16,7 @@ public interface ILikeService {
 	
 	LikeResponseDto toggleGalleryLike(Integer galleryId, Integer memberId);
 	LikeResponseDto getGalleryStatus(Integer galleryId, Integer memberId);
+	
+	// 목록 화면용 좋아요 상태 일괄 조회
+	LikeStatusResponse getStatuses(LikeStatusRequest request, Integer memberId);
 }
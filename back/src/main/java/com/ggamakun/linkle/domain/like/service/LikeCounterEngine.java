@@ -0,0 +1,285 @@
+package com.ggamakun.linkle.domain.like.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ggamakun.linkle.domain.like.dto.LikeCount;
+import com.ggamakun.linkle.domain.like.dto.LikeCountDelta;
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.like.repository.ILikeRepository;
+import com.ggamakun.linkle.global.util.AfterCommit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 수 write-behind 카운터 (게시글/댓글/갤러리)
+ * - 토글 시 증감량은 대상별 LongAdder에 누적, 좋아요 수 조회는 메모리에서 응답
+ * - 누적된 증감량은 주기적으로 POST/COMMENTS/GALLERY에 일괄 반영 (대상 행 잠금 경합 제거)
+ * - 비정상 종료로 반영 전 증감량이 유실되면 시작 시 LIKE_LOG 기준으로 최근 대상 재계산
+ * - 단일 서버 기준 (LIKE_COUNT를 다른 경로로 수정하지 않는다고 가정)
+ */
+@Component
+@Slf4j
+public class LikeCounterEngine {
+
+	private final ILikeRepository likeRepository;
+	private final int batchSize;
+	private final long idleMillis;
+	private final int rebuildWindowMinutes;
+
+	// 타입별 대상 ID -> 카운터
+	private final Map<LikeTargetType, ConcurrentHashMap<Integer, Counter>> counters = new EnumMap<>(LikeTargetType.class);
+	// 맵에서 제거된 카운터 (제거 직전에 시작된 증감이 있을 수 있으므로 다음 반영 때 한 번 더 비움)
+	private final Map<LikeTargetType, Queue<Counter>> retired = new EnumMap<>(LikeTargetType.class);
+	private final LongAdder flushedDeltas = new LongAdder();
+	// 주기 실행과 종료 시 실행이 겹치지 않도록 (JDBC 호출 중 가상 스레드가 캐리어에 고정되지 않게 synchronized 대신 사용)
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	public LikeCounterEngine(ILikeRepository likeRepository,
+			MeterRegistry meterRegistry,
+			@Value("${like.counter.batch-size:500}") int batchSize,
+			@Value("${like.counter.idle-seconds:600}") long idleSeconds,
+			@Value("${like.counter.rebuild-window-minutes:30}") int rebuildWindowMinutes) {
+		this.likeRepository = likeRepository;
+		this.batchSize = batchSize;
+		this.idleMillis = idleSeconds * 1000;
+		this.rebuildWindowMinutes = rebuildWindowMinutes;
+
+		for (LikeTargetType type : LikeTargetType.values()) {
+			counters.put(type, new ConcurrentHashMap<>());
+			retired.put(type, new ConcurrentLinkedQueue<>());
+		}
+		Gauge.builder("like.counter.entries", this, engine -> engine.counters.values().stream().mapToInt(Map::size).sum())
+				.register(meterRegistry);
+		Gauge.builder("like.counter.pending", this, LikeCounterEngine::pendingTotal)
+				.register(meterRegistry);
+		Gauge.builder("like.counter.flushed", flushedDeltas, LongAdder::sum)
+				.register(meterRegistry);
+	}
+
+	// 현재 좋아요 수 (DB 반영분 + 미반영 증감량)
+	public int getLikeCount(LikeTargetType type, Integer targetId) {
+		return counter(type, targetId).current();
+	}
+
+	// 여러 대상의 좋아요 수 (카운터가 없는 대상은 한 번의 IN 조회로 로드, 없는 대상은 0)
+	public Map<Integer, Integer> getLikeCounts(LikeTargetType type, List<Integer> targetIds) {
+		Map<Integer, Integer> result = new LinkedHashMap<>();
+		if (targetIds == null || targetIds.isEmpty()) {
+			return result;
+		}
+		ConcurrentHashMap<Integer, Counter> map = counters.get(type);
+		List<Integer> missing = targetIds.stream().distinct().filter(id -> !map.containsKey(id)).toList();
+		if (!missing.isEmpty()) {
+			for (LikeCount count : likeRepository.findTargetLikeCounts(type.getCode(), missing)) {
+				int base = count.getLikeCount() == null ? 0 : count.getLikeCount();
+				map.putIfAbsent(count.getTargetId(), new Counter(count.getTargetId(), base));
+			}
+		}
+		for (Integer targetId : targetIds) {
+			Counter counter = map.get(targetId);
+			if (counter != null) {
+				counter.lastAccess = System.currentTimeMillis();
+			}
+			result.put(targetId, counter == null ? 0 : counter.current());
+		}
+		return result;
+	}
+
+	// DB에서 읽은 좋아요 수에 아직 반영되지 않은 증감량을 더함 (카운터가 없으면 그대로)
+	public int withPending(LikeTargetType type, Integer targetId, Integer dbCount) {
+		int base = dbCount == null ? 0 : dbCount;
+		Counter counter = counters.get(type).get(targetId);
+		return counter == null ? base : (int) Math.max(0, base + counter.pending.sum());
+	}
+
+	// 증감량 누적 후 예상 좋아요 수 반환, 트랜잭션 중이면 커밋 후에 누적
+	public int add(LikeTargetType type, Integer targetId, int delta) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return addNow(type, targetId, delta);
+		}
+		int expected = Math.max(0, getLikeCount(type, targetId) + delta);
+		AfterCommit.run(() -> addNow(type, targetId, delta));
+		return expected;
+	}
+
+	private int addNow(LikeTargetType type, Integer targetId, int delta) {
+		while (true) {
+			Counter counter = counter(type, targetId);
+			counter.pending.add(delta);
+			if (!counter.retired) {
+				return counter.current();
+			}
+			// 방금 제거된 카운터면 되돌리고 새 카운터에 다시 누적
+			counter.pending.add(-delta);
+		}
+	}
+
+	// 좋아요 수 조회는 맵 compute 밖에서 (맵 잠금을 잡은 채 JDBC 대기하지 않도록), 먼저 들어간 카운터가 있으면 그것을 사용
+	private Counter counter(LikeTargetType type, Integer targetId) {
+		ConcurrentHashMap<Integer, Counter> map = counters.get(type);
+		Counter counter = map.get(targetId);
+		if (counter == null) {
+			Counter loaded = new Counter(targetId, loadBase(type, targetId));
+			counter = map.putIfAbsent(targetId, loaded);
+			if (counter == null) {
+				counter = loaded;
+			}
+		}
+		counter.lastAccess = System.currentTimeMillis();
+		return counter;
+	}
+
+	private int loadBase(LikeTargetType type, Integer targetId) {
+		Integer count = likeRepository.getTargetLikeCount(type.getCode(), targetId);
+		return count == null ? 0 : count;
+	}
+
+	// 누적된 증감량을 DB에 일괄 반영
+	@Scheduled(fixedDelayString = "${like.counter.flush-interval-ms:2000}")
+	public void flush() {
+		flushLock.lock();
+		try {
+			flushLocked();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void flushLocked() {
+		long now = System.currentTimeMillis();
+		for (LikeTargetType type : LikeTargetType.values()) {
+			List<Drained> drained = new ArrayList<>();
+
+			// 이전 주기에 제거된 카운터의 잔여분
+			Queue<Counter> retiredQueue = retired.get(type);
+			List<Counter> retiredNow = new ArrayList<>();
+			for (Counter counter; (counter = retiredQueue.poll()) != null;) {
+				drain(counter, drained);
+			}
+
+			for (Map.Entry<Integer, Counter> entry : counters.get(type).entrySet()) {
+				Counter counter = entry.getValue();
+				drain(counter, drained);
+				// 오래 사용되지 않은 카운터는 제거 (메모리 제한)
+				if (counter.pending.sum() == 0 && now - counter.lastAccess > idleMillis) {
+					counter.retired = true;
+					if (counters.get(type).remove(entry.getKey(), counter)) {
+						retiredNow.add(counter);
+					}
+				}
+			}
+			retiredQueue.addAll(retiredNow);
+
+			write(type, drained);
+		}
+	}
+
+	private void drain(Counter counter, List<Drained> drained) {
+		long delta = counter.pending.sum();
+		if (delta == 0) {
+			return;
+		}
+		counter.pending.add(-delta);
+		counter.base += delta;
+		drained.add(new Drained(counter, delta));
+	}
+
+	private void write(LikeTargetType type, List<Drained> drained) {
+		for (int from = 0; from < drained.size(); from += batchSize) {
+			List<Drained> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+			List<LikeCountDelta> deltas = chunk.stream()
+					.map(d -> new LikeCountDelta(d.counter.targetId, d.delta))
+					.toList();
+			try {
+				likeRepository.addLikeCounts(type.getCode(), deltas);
+				flushedDeltas.add(chunk.size());
+			} catch (RuntimeException e) {
+				// 실패한 증감량은 카운터로 되돌려 다음 주기에 재시도
+				log.error("좋아요 수 반영 실패 - 타입: {}, 건수: {}", type, chunk.size(), e);
+				for (Drained d : chunk) {
+					d.counter.base -= d.delta;
+					d.counter.pending.add(d.delta);
+					if (d.counter.retired) {
+						retired.get(type).add(d.counter);
+					}
+				}
+			}
+		}
+	}
+
+	// 시작 시 최근 이력이 있는 대상의 좋아요 수를 LIKE_LOG 기준으로 재계산
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildRecent() {
+		if (rebuildWindowMinutes <= 0) {
+			return;
+		}
+		for (LikeTargetType type : LikeTargetType.values()) {
+			try {
+				int rebuilt = likeRepository.rebuildLikeCounts(type.getCode(), rebuildWindowMinutes);
+				log.info("좋아요 수 재계산 - 타입: {}, 대상: {}건", type, rebuilt);
+			} catch (RuntimeException e) {
+				log.error("좋아요 수 재계산 실패 - 타입: {}", type, e);
+			}
+		}
+	}
+
+	// 종료 시 남은 증감량 반영
+	@PreDestroy
+	public void shutdown() {
+		flush();
+		// 제거 대기 중이던 카운터까지 비움
+		flush();
+	}
+
+	private long pendingTotal() {
+		long total = 0;
+		for (ConcurrentHashMap<Integer, Counter> map : counters.values()) {
+			for (Counter counter : map.values()) {
+				total += Math.abs(counter.pending.sum());
+			}
+		}
+		return total;
+	}
+
+	private static final class Counter {
+		// DB에 반영된 좋아요 수
+		private volatile int base;
+		// 아직 반영되지 않은 증감량
+		private final LongAdder pending = new LongAdder();
+		private volatile long lastAccess;
+		private volatile boolean retired;
+		private final Integer targetId;
+
+		private Counter(Integer targetId, int base) {
+			this.targetId = targetId;
+			this.base = base;
+			this.lastAccess = System.currentTimeMillis();
+		}
+
+		private int current() {
+			return (int) Math.max(0, base + pending.sum());
+		}
+	}
+
+	private record Drained(Counter counter, long delta) {
+	}
+}
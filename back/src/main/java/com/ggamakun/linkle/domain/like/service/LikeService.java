@@ -1,14 +1,25 @@
 package com.ggamakun.linkle.domain.like.service;
 
-import org.springframework.dao.DuplicateKeyException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.ggamakun.linkle.domain.comment.repository.ICommentRepository;
-import com.ggamakun.linkle.domain.gallery.repository.IGalleryRepository;
 import com.ggamakun.linkle.domain.like.dto.LikeResponseDto;
+import com.ggamakun.linkle.domain.like.dto.LikeStatusRequest;
+import com.ggamakun.linkle.domain.like.dto.LikeStatusResponse;
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.like.dto.LikeToggle;
 import com.ggamakun.linkle.domain.like.repository.ILikeRepository;
-import com.ggamakun.linkle.domain.post.repository.IPostRepository;
+import com.ggamakun.linkle.domain.trending.dto.ActivityEvent;
+import com.ggamakun.linkle.domain.trending.dto.ActivityType;
+import com.ggamakun.linkle.global.exception.BadRequestException;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,91 +27,47 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class LikeService implements ILikeService {
 	private final ILikeRepository likeRepository;
-	private final IPostRepository postRepository;
-	private final ICommentRepository commentRepository;
-	private final IGalleryRepository galleryRepository;
+	// 좋아요 수는 write-behind 카운터로 증감 / 조회
+	private final LikeCounterEngine likeCounter;
+	// 좋아요 여부는 회원별 비트맵 캐시로 확인
+	private final LikedSetCache likedSetCache;
+	private final ApplicationEventPublisher eventPublisher;
+	
+	// 일괄 조회 시 타입별 최대 대상 수 (Oracle IN 목록 제한 1000 이하)
+	@Value("${like.status.max-ids:200}")
+	private int maxStatusIds;
 	
 	@Transactional
 	@Override
 	public LikeResponseDto togglePostLike(Integer postId, Integer memberId) {
-		
-		int canceled = likeRepository.cancelPostLike(postId, memberId);
-		if(canceled > 0) {
-			postRepository.decreaseLikeCount(postId);
-			return new LikeResponseDto(false, safePostCount(postId));
-		}
-		
-		int reactivated = likeRepository.reactivatePostLike(postId, memberId);
-		if(reactivated > 0) {
-			postRepository.increaseLikeCount(postId);
-			return new LikeResponseDto(true, safePostCount(postId));
-		}
-		
-		try {
-			likeRepository.insertPostLike(postId, memberId);
-			postRepository.increaseLikeCount(postId);
-		}catch(DuplicateKeyException e) {
-			
-		}
-		return new LikeResponseDto(true, safePostCount(postId));
+		return toggle(LikeTargetType.POST, postId, memberId);
 	}
 		
 	
 	@Override
 	public LikeResponseDto getPostStatus(Integer postId, Integer memberId) {
-        boolean liked = likeRepository.existsPostLike(postId, memberId) > 0;
-        Integer cnt = postRepository.getLikeCount(postId);
-        int count = (cnt == null ? 0: cnt);
-        return new LikeResponseDto(liked, count);
+        boolean liked = likedSetCache.isLiked(memberId, LikeTargetType.POST, postId);
+        return new LikeResponseDto(liked, likeCounter.getLikeCount(LikeTargetType.POST, postId));
     }
 	
-	private int safePostCount(Integer postId) {
-		Integer cnt = postRepository.getLikeCount(postId);
-		return cnt == null ? 0 : cnt;
-	}
 
 	
 	
 	//---------------------------댓글-------------------------------------------------
 
+	@Transactional
 	@Override
 	public LikeResponseDto toggleCommentLike(Integer commentId, Integer memberId) {
-		int canceled = likeRepository.cancelCommentLike(commentId, memberId);
-		if(canceled > 0) {
-			commentRepository.decreaseLikeCount(commentId);
-			return new LikeResponseDto(false, safeCommentCount(commentId));
-			
-		}
-		
-		int reactivated = likeRepository.reactivateCommentLike(commentId, memberId);
-		if(reactivated > 0) {
-			commentRepository.increaseLikeCount(commentId);
-			return new LikeResponseDto(true, safeCommentCount(commentId));
-		}
-		
-		try {
-			likeRepository.insertCommentLike(commentId, memberId);
-			commentRepository.increaseLikeCount(commentId);
-		}catch(DuplicateKeyException e) {
-			
-		}
-		return new LikeResponseDto(true,safeCommentCount(commentId));
-		
+		return toggle(LikeTargetType.COMMENT, commentId, memberId);
 	}
 
 
 	@Override
 	public LikeResponseDto getCommentStatus(Integer commentId, Integer memberId) {
-		boolean liked = likeRepository.existsCommentLike(commentId, memberId) > 0;
-        Integer cnt = commentRepository.getLikeCount(commentId);
-        int count = (cnt == null ? 0: cnt);
-        return new LikeResponseDto(liked, count);
+		boolean liked = likedSetCache.isLiked(memberId, LikeTargetType.COMMENT, commentId);
+        return new LikeResponseDto(liked, likeCounter.getLikeCount(LikeTargetType.COMMENT, commentId));
 	}
 
-	private int safeCommentCount(Integer commentId) {
-		Integer cnt = commentRepository.getLikeCount(commentId);
-		return cnt == null ? 0 : cnt;
-	}
 	
 	
 	
@@ -108,39 +75,57 @@ public class LikeService implements ILikeService {
 	@Transactional
 	@Override
 	public LikeResponseDto toggleGalleryLike(Integer galleryId, Integer memberId) {
-		
-		int canceled = likeRepository.cancelGalleryLike(galleryId, memberId);
-		if(canceled > 0) {
-			galleryRepository.decreaseLikeCount(galleryId);
-			return new LikeResponseDto(false, safeGalleryCount(galleryId));
-		}
-		
-		int reactivated = likeRepository.reactivateGalleryLike(galleryId, memberId);
-		if(reactivated > 0) {
-			galleryRepository.increaseLikeCount(galleryId);
-			return new LikeResponseDto(true, safeGalleryCount(galleryId));
-		}
-		
-		try {
-			likeRepository.insertGalleryLike(galleryId, memberId);
-			galleryRepository.increaseLikeCount(galleryId);
-		}catch(DuplicateKeyException e) {
-			
-		}
-		return new LikeResponseDto(true, safeGalleryCount(galleryId));
+		return toggle(LikeTargetType.GALLERY, galleryId, memberId);
 	}
 		
 
 	@Override
 	public LikeResponseDto getGalleryStatus(Integer galleryId, Integer memberId) {
-	    boolean liked = likeRepository.existsGalleryLike(galleryId, memberId) > 0;
-	    Integer cnt = galleryRepository.getLikeCount(galleryId);
-	    int count = (cnt == null ? 0: cnt);
-	    return new LikeResponseDto(liked, count);
+	    boolean liked = likedSetCache.isLiked(memberId, LikeTargetType.GALLERY, galleryId);
+	    return new LikeResponseDto(liked, likeCounter.getLikeCount(LikeTargetType.GALLERY, galleryId));
+	}
+
+	// 좋아요 토글 (LIKE_LOG 갱신은 한 번의 호출, 좋아요 수는 커밋 후 카운터에 반영)
+	private LikeResponseDto toggle(LikeTargetType type, Integer targetId, Integer memberId) {
+		LikeToggle toggle = new LikeToggle(type, targetId, memberId);
+		likeRepository.toggleLike(toggle);
+		boolean liked = toggle.isLikedNow();
+		likedSetCache.update(memberId, type, targetId, liked);
+		eventPublisher.publishEvent(ActivityEvent.of(type, targetId, liked ? ActivityType.LIKE : ActivityType.UNLIKE));
+		return new LikeResponseDto(liked, likeCounter.add(type, targetId, liked ? 1 : -1));
 	}
 
-	private int safeGalleryCount(Integer galleryId) {
-		Integer cnt = galleryRepository.getLikeCount(galleryId);
-		return cnt == null ? 0 : cnt;
+	//-----------------------일괄 조회---------------------------------
+	@Override
+	public LikeStatusResponse getStatuses(LikeStatusRequest request, Integer memberId) {
+		List<Integer> postIds = checkIds(request.getPostIds());
+		List<Integer> commentIds = checkIds(request.getCommentIds());
+		List<Integer> galleryIds = checkIds(request.getGalleryIds());
+		
+		// 좋아요 여부는 비트맵 캐시로 확인 (캐시 대상이 아니면 세 타입을 한 번의 IN 조회로 확인)
+		BiPredicate<LikeTargetType, Integer> liked = likedSetCache.likedAmong(memberId, postIds, commentIds, galleryIds);
+		
+		return new LikeStatusResponse(
+				statuses(LikeTargetType.POST, postIds, liked),
+				statuses(LikeTargetType.COMMENT, commentIds, liked),
+				statuses(LikeTargetType.GALLERY, galleryIds, liked));
+	}
+	
+	private Map<Integer, LikeResponseDto> statuses(LikeTargetType type, List<Integer> ids, BiPredicate<LikeTargetType, Integer> liked) {
+		Map<Integer, LikeResponseDto> result = new LinkedHashMap<>();
+		likeCounter.getLikeCounts(type, ids).forEach((id, count) ->
+				result.put(id, new LikeResponseDto(liked.test(type, id), count)));
+		return result;
+	}
+	
+	private List<Integer> checkIds(List<Integer> ids) {
+		if (ids == null) {
+			return List.of();
+		}
+		List<Integer> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+		if (distinct.size() > maxStatusIds) {
+			throw new BadRequestException("한 번에 조회할 수 있는 대상은 " + maxStatusIds + "개까지입니다.");
+		}
+		return distinct;
 	}
 }
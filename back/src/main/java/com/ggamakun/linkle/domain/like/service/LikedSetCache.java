@@ -0,0 +1,216 @@
+package com.ggamakun.linkle.domain.like.service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.like.dto.LikedTarget;
+import com.ggamakun.linkle.domain.like.repository.ILikeRepository;
+import com.ggamakun.linkle.global.util.AfterCommit;
+import com.ggamakun.linkle.global.util.LoadGuard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 회원별 좋아요 대상 ID 캐시 (타입별 RoaringBitmap)
+ * - 처음 조회 시 LIKE_LOG에서 로드, 이후 좋아요 토글 커밋 시 갱신
+ * - 전체 크기는 비트맵 바이트 수 기준으로 제한, like.liked-set 메트릭으로 노출
+ * - 좋아요가 너무 많은 회원은 비트맵 대신 DB 조회로 처리
+ */
+@Component
+public class LikedSetCache {
+
+	private final ILikeRepository likeRepository;
+	private final int maxIdsPerMember;
+	private final Cache<Integer, LikedSet> cache;
+	// 로드 중에 좋아요가 토글된 회원의 비트맵은 캐시에 남기지 않음
+	private final LoadGuard loadGuard = new LoadGuard();
+
+	public LikedSetCache(ILikeRepository likeRepository,
+			MeterRegistry meterRegistry,
+			@Value("${like.liked-set.max-bytes:67108864}") long maxBytes,
+			@Value("${like.liked-set.max-ids-per-member:50000}") int maxIdsPerMember,
+			@Value("${like.liked-set.ttl-minutes:30}") long ttlMinutes) {
+		this.likeRepository = likeRepository;
+		this.maxIdsPerMember = maxIdsPerMember;
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(maxBytes)
+				.weigher((Integer memberId, LikedSet set) -> set.sizeInBytes())
+				.expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "like.liked-set.cache");
+		Gauge.builder("like.liked-set.bytes", cache, c -> c.policy().eviction()
+				.map(eviction -> eviction.weightedSize().orElse(0L))
+				.orElse(0L))
+				.baseUnit("bytes")
+				.register(meterRegistry);
+	}
+
+	// 좋아요 여부
+	public boolean isLiked(Integer memberId, LikeTargetType type, Integer targetId) {
+		LikedSet set = get(memberId);
+		if (set.overflow) {
+			return !likeRepository.findLikedTargets(memberId,
+					type == LikeTargetType.POST ? List.of(targetId) : null,
+					type == LikeTargetType.COMMENT ? List.of(targetId) : null,
+					type == LikeTargetType.GALLERY ? List.of(targetId) : null).isEmpty();
+		}
+		return set.contains(type, targetId);
+	}
+
+	// 목록 대상의 좋아요 여부 확인용 (비트맵이 없으면 한 번의 IN 조회)
+	public BiPredicate<LikeTargetType, Integer> likedAmong(Integer memberId, List<Integer> postIds, List<Integer> commentIds, List<Integer> galleryIds) {
+		LikedSet set = get(memberId);
+		if (!set.overflow) {
+			return set::contains;
+		}
+		Set<String> liked = new HashSet<>();
+		for (LikedTarget target : likeRepository.findLikedTargets(memberId, postIds, commentIds, galleryIds)) {
+			liked.add(target.getTargetType() + target.getTargetId());
+		}
+		return (type, targetId) -> liked.contains(type.getCode() + targetId);
+	}
+
+	// 좋아요한 대상이 있을 수 있으면 true (비트맵이 없으면 확인하지 않고 true)
+	public boolean hasLiked(Integer memberId, LikeTargetType type) {
+		LikedSet set = get(memberId);
+		return set.overflow || !set.isEmpty(type);
+	}
+
+	// 좋아요 토글 결과 반영 (트랜잭션 중이면 커밋 후, 캐시에 없는 회원은 다음 조회 시 로드)
+	public void update(Integer memberId, LikeTargetType type, Integer targetId, boolean liked) {
+		AfterCommit.run(() -> {
+			loadGuard.markChanged(memberId);
+			cache.asMap().computeIfPresent(memberId, (id, set) -> {
+				// 한도를 넘으면 DB 조회로 전환
+				return set.apply(type, targetId, liked, maxIdsPerMember) ? set : LikedSet.overflow();
+			});
+		});
+	}
+
+	private LikedSet get(Integer memberId) {
+		return loadGuard.get(cache, memberId, this::load);
+	}
+
+	private LikedSet load(Integer memberId) {
+		List<LikedTarget> targets = likeRepository.findAllLikedTargets(memberId, maxIdsPerMember + 1);
+		if (targets.size() > maxIdsPerMember) {
+			return LikedSet.overflow();
+		}
+		LikedSet set = new LikedSet();
+		for (LikedTarget target : targets) {
+			LikeTargetType type = typeOf(target.getTargetType());
+			if (type != null) {
+				set.bitmaps.get(type).add(target.getTargetId());
+			}
+		}
+		set.bitmaps.values().forEach(RoaringBitmap::runOptimize);
+		return set;
+	}
+
+	private LikeTargetType typeOf(String code) {
+		for (LikeTargetType type : LikeTargetType.values()) {
+			if (type.getCode().equals(code)) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+	private static final class LikedSet {
+		// 비트맵 외 객체 자체 크기 (대략치)
+		private static final int BASE_BYTES = 128;
+
+		private final Map<LikeTargetType, RoaringBitmap> bitmaps = new EnumMap<>(LikeTargetType.class);
+		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		private final boolean overflow;
+
+		private LikedSet() {
+			this(false);
+		}
+
+		private LikedSet(boolean overflow) {
+			this.overflow = overflow;
+			if (!overflow) {
+				for (LikeTargetType type : LikeTargetType.values()) {
+					bitmaps.put(type, new RoaringBitmap());
+				}
+			}
+		}
+
+		private static LikedSet overflow() {
+			return new LikedSet(true);
+		}
+
+		private boolean contains(LikeTargetType type, Integer targetId) {
+			lock.readLock().lock();
+			try {
+				return bitmaps.get(type).contains(targetId);
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		private boolean isEmpty(LikeTargetType type) {
+			lock.readLock().lock();
+			try {
+				return bitmaps.get(type).isEmpty();
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		// 반영 후 한도 이내면 true
+		private boolean apply(LikeTargetType type, Integer targetId, boolean liked, int maxIds) {
+			if (overflow) {
+				return false;
+			}
+			lock.writeLock().lock();
+			try {
+				if (liked) {
+					bitmaps.get(type).add(targetId);
+				} else {
+					bitmaps.get(type).remove(targetId);
+				}
+				long total = 0;
+				for (RoaringBitmap bitmap : bitmaps.values()) {
+					total += bitmap.getLongCardinality();
+				}
+				return total <= maxIds;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		private int sizeInBytes() {
+			if (overflow) {
+				return BASE_BYTES;
+			}
+			lock.readLock().lock();
+			try {
+				long bytes = BASE_BYTES;
+				for (RoaringBitmap bitmap : bitmaps.values()) {
+					bytes += bitmap.getSizeInBytes();
+				}
+				return (int) Math.min(Integer.MAX_VALUE, bytes);
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+	}
+}
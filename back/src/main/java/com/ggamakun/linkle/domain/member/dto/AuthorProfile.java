@@ -0,0 +1,16 @@
+package com.ggamakun.linkle.domain.member.dto;
+
+import lombok.Data;
+
+/**
+ * 목록 화면에 표시하는 작성자 프로필 (MemberProfileCache에 저장)
+ */
+@Data
+public class AuthorProfile {
+    
+    private Integer memberId;
+    private String name;
+    private String nickname;
+    private Integer profileId;
+    private String profileUrl;
+}
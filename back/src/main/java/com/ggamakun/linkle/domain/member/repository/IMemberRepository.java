@@ -1,8 +1,12 @@
 package com.ggamakun.linkle.domain.member.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.ggamakun.linkle.domain.member.dto.AuthorProfile;
 import com.ggamakun.linkle.domain.member.entity.Member;
 
 @Mapper
@@ -31,4 +35,7 @@ public interface IMemberRepository {
                                        @Param("providerId") String providerId);
     // 이메일 인증
     Member findByVerificationToken(String token);
+    
+    // 작성자 프로필 일괄 조회
+    List<AuthorProfile> findAuthorProfiles(@Param("memberIds") Collection<Integer> memberIds);
 }
\ No newline at end of file
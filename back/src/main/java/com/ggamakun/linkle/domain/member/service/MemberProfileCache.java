@@ -0,0 +1,69 @@
+package com.ggamakun.linkle.domain.member.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.domain.member.dto.AuthorProfile;
+import com.ggamakun.linkle.domain.member.repository.IMemberRepository;
+import com.ggamakun.linkle.global.util.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 작성자 프로필 캐시 (memberId -> 이름/닉네임/프로필 이미지)
+ * - 목록 데이터에는 작성자 ID만 두고 응답 직전에 이 캐시로 채움
+ * - 캐시에 없는 회원은 한 번의 IN 조회로 로드
+ * - 닉네임/프로필 이미지 변경 시 무효화
+ */
+@Component
+public class MemberProfileCache {
+
+	private final IMemberRepository memberRepository;
+	private final Cache<Integer, AuthorProfile> cache;
+
+	public MemberProfileCache(IMemberRepository memberRepository,
+			MeterRegistry meterRegistry,
+			@Value("${member.profile-cache.max-size:50000}") long maxSize,
+			@Value("${member.profile-cache.ttl-seconds:600}") long ttlSeconds) {
+		this.memberRepository = memberRepository;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "member.profile.cache");
+	}
+
+	// 여러 회원의 프로필 (없는 회원은 결과에서 빠짐)
+	public Map<Integer, AuthorProfile> getAll(Collection<Integer> memberIds) {
+		Set<Integer> ids = memberIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+		if (ids.isEmpty()) {
+			return Map.of();
+		}
+		return cache.getAll(ids, this::loadAll);
+	}
+
+	// 회원 한 명 무효화 (트랜잭션 중이면 완료 후 한 번 더)
+	public void evict(Integer memberId) {
+		if (memberId == null) {
+			return;
+		}
+		AfterCommit.nowAndAfterCompletion(() -> cache.invalidate(memberId));
+	}
+
+	private Map<Integer, AuthorProfile> loadAll(Set<? extends Integer> memberIds) {
+		return memberRepository.findAuthorProfiles(Set.copyOf(memberIds)).stream()
+				.collect(Collectors.toMap(AuthorProfile::getMemberId, Function.identity()));
+	}
+}
@@ -6,7 +6,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +15,9 @@ import com.ggamakun.linkle.domain.member.dto.MemberProfileDto;
 import com.ggamakun.linkle.domain.member.entity.Member;
 import com.ggamakun.linkle.domain.member.repository.IMemberRepository;
 import com.ggamakun.linkle.global.exception.BadRequestException;
+import com.ggamakun.linkle.global.security.PasswordHashService;
+import com.ggamakun.linkle.global.security.PrincipalCache;
+import com.ggamakun.linkle.global.security.TokenVersionStore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,7 +29,10 @@ public class MemberService implements IMemberService {
 
 	private final IMemberRepository memberRepository;
 	private final ICategoryRepository categoryRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashService passwordHashService;
+	private final PrincipalCache principalCache;
+	private final TokenVersionStore tokenVersionStore;
+	private final MemberProfileCache memberProfileCache;
 
 	/**
 	 * 회원 프로필 조회
@@ -111,6 +116,9 @@ public class MemberService implements IMemberService {
 		if (result <= 0) {
 			throw new BadRequestException("회원 정보 업데이트에 실패했습니다.");
 		}
+		principalCache.evict(member.getEmail());
+		// 닉네임/프로필 이미지가 바뀔 수 있음
+		memberProfileCache.evict(memberId);
 
 		log.info("회원 기본 정보 업데이트 완료 - Member ID: {}", memberId);
 	}
@@ -187,11 +195,11 @@ public class MemberService implements IMemberService {
 	        throw new BadRequestException("소셜 로그인 계정은 비밀번호 변경을 사용할 수 없습니다.");
 	    }
 	    
-	    if (!passwordEncoder.matches(currentPassword, member.getPassword())) {
+	    if (!passwordHashService.matches(currentPassword, member.getPassword())) {
 	        throw new BadRequestException("현재 비밀번호가 일치하지 않습니다.");
 	    }
 	    
-	    String encodedPassword = passwordEncoder.encode(newPassword);
+	    String encodedPassword = passwordHashService.encode(newPassword);
 	    member.setPassword(encodedPassword);
 	    member.setUpdatedBy(memberId);
 	    
@@ -200,6 +208,8 @@ public class MemberService implements IMemberService {
 	    if (result <= 0) {
 	        throw new BadRequestException("비밀번호 변경에 실패했습니다.");
 	    }
+	    principalCache.evict(member.getEmail());
+	    tokenVersionStore.revoke(memberId);
 	    
 	    log.info("비밀번호 변경 완료 - Member ID: {}", memberId);
 	}
@@ -224,7 +234,7 @@ public class MemberService implements IMemberService {
 	            throw new BadRequestException("비밀번호를 입력해주세요.");
 	        }
 	        
-	        if (!passwordEncoder.matches(password, member.getPassword())) {
+	        if (!passwordHashService.matches(password, member.getPassword())) {
 	            throw new BadRequestException("비밀번호가 일치하지 않습니다.");
 	        }
 	    }
@@ -238,6 +248,8 @@ public class MemberService implements IMemberService {
 	    if (result <= 0) {
 	        throw new BadRequestException("회원 탈퇴에 실패했습니다.");
 	    }
+	    principalCache.evict(member.getEmail());
+	    tokenVersionStore.revoke(memberId);
 	    
 	    log.info("회원 탈퇴 완료 - Member ID: {}", memberId);
 	}
@@ -2,6 +2,8 @@ package com.ggamakun.linkle.domain.member.service;
 
 import java.util.List;
 import org.springframework.stereotype.Service;
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.like.service.LikedSetCache;
 import com.ggamakun.linkle.domain.member.dto.MyActivityPostDto;
 import com.ggamakun.linkle.domain.member.repository.IMyActivityRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 public class MyActivityService implements IMyActivityService{
 	
 	private final IMyActivityRepository myActivityRepository;
+	private final LikedSetCache likedSetCache;
 	
 	@Override
 	public List<MyActivityPostDto> getMyActivities(Integer memberId, String type) {
@@ -25,6 +28,10 @@ public class MyActivityService implements IMyActivityService{
 		case "comments":
 			return myActivityRepository.findPostsWithMyComments(memberId);
 		case "likes":
+			//좋아요한 글이 없으면 DB 조회 생략
+			if(!likedSetCache.hasLiked(memberId, LikeTargetType.POST)) {
+				return List.of();
+			}
 			return myActivityRepository.findMyLikedPosts(memberId);
 		default:
 			return myActivityRepository.findMyPosts(memberId);
@@ -4,6 +4,8 @@ import lombok.Data;
 
 @Data
 public class CreateNoticeRequest {
+	// 등록 후 생성된 게시글 ID
+	private Integer postId;
 	private Integer clubId;
 	private String title;
 	private String content;
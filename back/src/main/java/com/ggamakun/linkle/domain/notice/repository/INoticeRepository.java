@@ -17,8 +17,6 @@ public interface INoticeRepository {
 
 	List<NoticeSummary> noticeList();
 	
-	void increaseViewCount(Integer postId);
-
 	NoticeDetail findNoticeDetail(@Param("postId") Integer postId);
 
 	Integer insertNotice(CreateNoticeRequest request);
@@ -9,10 +9,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.ggamakun.linkle.domain.club.dto.ClubAccess;
 import com.ggamakun.linkle.domain.club.dto.ClubMemberDto;
 import com.ggamakun.linkle.domain.club.entity.Club;
 import com.ggamakun.linkle.domain.club.repository.IClubMemberRepository;
 import com.ggamakun.linkle.domain.club.repository.IClubRepository;
+import com.ggamakun.linkle.domain.club.service.ClubAccessService;
+import com.ggamakun.linkle.domain.feed.service.IFeedService;
 import com.ggamakun.linkle.domain.notice.dto.CreateNoticeRequest;
 import com.ggamakun.linkle.domain.notice.dto.NoticeDetail;
 import com.ggamakun.linkle.domain.notice.dto.NoticeSummary;
@@ -20,6 +23,7 @@ import com.ggamakun.linkle.domain.notice.dto.UpdateNoticeRequest;
 import com.ggamakun.linkle.domain.notice.repository.INoticeRepository;
 import com.ggamakun.linkle.domain.notification.dto.CreateNotificationRequestDto;
 import com.ggamakun.linkle.domain.notification.service.NotificationService;
+import com.ggamakun.linkle.domain.post.service.ViewCountBuffer;
 import com.ggamakun.linkle.global.security.CustomUserDetails;
 
 import lombok.RequiredArgsConstructor;
@@ -33,6 +37,9 @@ public class NoticeService implements INoticeService {
 	private final IClubRepository clubRepository;
 	private final IClubMemberRepository clubMemberRepository;
 	private final NotificationService notificationService;
+	private final ClubAccessService clubAccessService;
+	private final ViewCountBuffer viewCountBuffer;
+	private final IFeedService feedService;
 
 	@Override
 	public List<NoticeSummary> getPinned() {
@@ -53,7 +60,7 @@ public class NoticeService implements INoticeService {
 		return noticeRepository.getNoticesByClubId(clubId);
 	}
 	
-	@Transactional
+	@Transactional(readOnly=true)
 	@Override
 	public NoticeDetail getNotice(Integer postId, boolean increase) {
 		NoticeDetail dto = noticeRepository.findNoticeDetail(postId);
@@ -65,16 +72,15 @@ public class NoticeService implements INoticeService {
 			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다");
 		}
 		
-		boolean isMember = clubRepository.isClubMember(dto.getClubId(), currentMemberId)>0;
-		if (!isMember) {
+		if (!clubAccessService.getAccess(dto.getClubId(), currentMemberId).isMember()) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이 공지사항은 동호회 멤버만 볼 수 있습니다.");
 		}
 		
-		//조회수 증가
+		//조회수 증가 (메모리에 누적 후 일괄 반영, 같은 회원의 반복 조회는 한 번만 집계)
 		if (increase) {
-			noticeRepository.increaseViewCount(postId);
-			dto = noticeRepository.findNoticeDetail(postId); // 증가 반영된 최신값으로 교체
+			viewCountBuffer.recordView(postId, currentMemberId);
 		}
+		dto.setViewCount(viewCountBuffer.withPending(postId, dto.getViewCount()));
 		return dto;
 	}
 	
@@ -82,17 +88,20 @@ public class NoticeService implements INoticeService {
 	@Override
 	@Transactional
 	public Integer insertNotice(CreateNoticeRequest request) {
-		String memberRole = clubRepository.getMemberRole(request.getClubId(), request.getCreatedBy());
-		if(memberRole == null) {
+		ClubAccess access = clubAccessService.getAccess(request.getClubId(), request.getCreatedBy());
+		if(!access.isMember()) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN,"해당 동호회의 회원이 아닙니다.");
 		}
 		
-		if(!"LEADER".equals(memberRole) && "MANAGER".equals(memberRole)) {
+		if(!access.isManagerOrAbove()) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "공지사항은 모임장과 운영진만 등록할 수 있습니다" );
 			
 		}
 		
-		Integer postId = noticeRepository.insertNotice(request);
+		noticeRepository.insertNotice(request);
+		Integer postId = request.getPostId();
+		//동호회 회원의 홈 피드에 추가
+		feedService.publish(request.getClubId(), postId);
 		
 		//동호회 회원에게 알림 
 		List<ClubMemberDto> members = clubMemberRepository.findMembersByClubId(request.getClubId());
@@ -100,22 +109,22 @@ public class NoticeService implements INoticeService {
 			Club club = clubRepository.findById(request.getClubId());
 	        String clubName = (club != null) ? club.getName() : "동호회";
 	        
-	        for(ClubMemberDto member : members) {
-	        	//작성자 본인에게는 알림 발송 안함
-	        	if(member.getMemberId().equals(request.getCreatedBy())) {
-	        		continue;
-	        	}
-	        	notificationService.sendNotification(
-						CreateNotificationRequestDto.builder()
-							.receiverId(member.getMemberId())
-							.title("새 공지사항이 등록되었습니다")
-							.content(clubName + " - " + request.getTitle())
-							.linkUrl("/clubs/" + request.getClubId() + "/notice")
-							.createdBy(request.getCreatedBy())
-							.build()
-					);
-	        }
-	        log.info("공지사항 알림 발송 완료 - postId: {}", postId);
+	        //작성자 본인에게는 알림 발송 안함
+	        List<Integer> receiverIds = members.stream()
+	        		.map(ClubMemberDto::getMemberId)
+	        		.filter(id -> !id.equals(request.getCreatedBy()))
+	        		.toList();
+	        
+	        //커밋 후 일괄 발송
+	        notificationService.sendNotifications(receiverIds,
+					CreateNotificationRequestDto.builder()
+						.title("새 공지사항이 등록되었습니다")
+						.content(clubName + " - " + request.getTitle())
+						.linkUrl("/clubs/" + request.getClubId() + "/notice")
+						.createdBy(request.getCreatedBy())
+						.build()
+				);
+	        log.info("공지사항 알림 발송 요청 - postId: {}, 수신자: {}명", postId, receiverIds.size());
 	        
 		}
 		log.info("공지사항 등록 완료 - postId: {}, clubId: {}", postId, request.getClubId());
@@ -133,8 +142,7 @@ public class NoticeService implements INoticeService {
 		}
 		
 		boolean isAuthor = notice.getCreatedBy().equals(memberId);
-		String memberRole = clubRepository.getMemberRole(notice.getClubId(), memberId);
-		boolean isManager = "LEADER".equals(memberRole)|| "MANAGER".equals(memberRole);
+		boolean isManager = clubAccessService.getAccess(notice.getClubId(), memberId).isManagerOrAbove();
 		
 		if(!isAuthor && !isManager) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN,"운영진만 수정할 수 있다");
@@ -162,8 +170,7 @@ public class NoticeService implements INoticeService {
 		}
 		
 		//모임장 또는 운영진만 가능
-		String memberRole = clubRepository.getMemberRole(notice.getClubId(), memberId);
-		boolean isManager = "LEADER".equals(memberRole) || "MANAGER".equals(memberRole);
+		boolean isManager = clubAccessService.getAccess(notice.getClubId(), memberId).isManagerOrAbove();
 		
 		if(!isManager) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "운영진만 사용할 수 있습니다");
@@ -191,8 +198,7 @@ public class NoticeService implements INoticeService {
 		}
 		
 		boolean isAuthor = notice.getCreatedBy().equals(memberId);
-		String memberRole = clubRepository.getMemberRole(notice.getClubId(), memberId);
-		boolean isManager = "LEADER".equals(memberRole)|| "MANAGER".equals(memberRole);
+		boolean isManager = clubAccessService.getAccess(notice.getClubId(), memberId).isManagerOrAbove();
 		
 		if(!isAuthor && !isManager) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN,"운영진만 수정할 수 있다");
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ggamakun.linkle.domain.notification.dto.NotificationDto;
@@ -29,9 +30,19 @@ public class NotificationController {
 
     @GetMapping("")
     public ResponseEntity<List<NotificationDto>> getNotifications(
+            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+            @RequestParam(value = "cursorSentAt", required = false) Long cursorSentAt,
+            @RequestParam(value = "cursorId", required = false) Integer cursorId,
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
         Integer memberId = userDetails.getMember().getMemberId();
-        return ResponseEntity.ok(notificationService.getNotifications(memberId));
+        return ResponseEntity.ok(notificationService.getNotifications(memberId, size, cursorSentAt, cursorId));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<Integer> getUnreadCount(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Integer memberId = userDetails.getMember().getMemberId();
+        return ResponseEntity.ok(notificationService.getUnreadCount(memberId));
     }
 
     @PutMapping("/{notificationId}/read")
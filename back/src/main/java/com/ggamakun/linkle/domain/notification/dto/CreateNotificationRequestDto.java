@@ -15,4 +15,6 @@ public class CreateNotificationRequestDto {
     private Integer receiverId;
     private String linkUrl;
     private Integer createdBy;
+    // 합치기 대상 종류 (없으면 항상 새 알림)
+    private NotificationKind kind;
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.ggamakun.linkle.domain.notification.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 합치기 파라미터 / 결과
+ * - coalesced는 기존 알림에 합쳐졌으면 'Y', 새로 저장했으면 'N' (프로시저 OUT 파라미터)
+ */
+@Data
+@NoArgsConstructor
+public class NotificationCoalesce {
+    private String title;
+    private String content;
+    private Integer receiverId;
+    private String linkUrl;
+    private NotificationKind kind;
+    private Integer createdBy;
+    private String summaryTitle;
+    private long windowSeconds;
+    private long pushDelaySeconds;
+    private String coalesced;
+
+    public NotificationCoalesce(CreateNotificationRequestDto request, long windowSeconds, long pushDelaySeconds) {
+        this.title = request.getTitle();
+        this.content = request.getContent();
+        this.receiverId = request.getReceiverId();
+        this.linkUrl = request.getLinkUrl();
+        this.kind = request.getKind();
+        this.createdBy = request.getCreatedBy();
+        this.summaryTitle = request.getKind().getSummaryTitle();
+        this.windowSeconds = windowSeconds;
+        this.pushDelaySeconds = pushDelaySeconds;
+    }
+
+    public boolean isCoalescedNow() {
+        return "Y".equals(coalesced);
+    }
+}
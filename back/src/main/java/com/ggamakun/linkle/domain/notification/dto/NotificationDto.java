@@ -19,4 +19,6 @@ public class NotificationDto {
     private String isRead;
     private Date sentAt;
     private Date readAt;
+    // 합쳐진 알림 수 (1이면 단일 알림)
+    private Integer digestCount;
 }
\ No newline at end of file
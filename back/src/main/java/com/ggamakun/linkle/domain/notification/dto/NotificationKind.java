@@ -0,0 +1,20 @@
+package com.ggamakun.linkle.domain.notification.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 짧은 시간에 반복되는 알림 종류 (NOTIFICATION.KIND)
+ * - 같은 수신자, 같은 링크, 같은 종류의 읽지 않은 알림은 하나로 합쳐짐
+ * - summaryTitle은 합쳐진 알림 제목, {count}는 합쳐진 수
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NotificationKind {
+    COMMENT("새 댓글 {count}개가 달렸습니다"),
+    REPLY("댓글에 답글 {count}개가 달렸습니다"),
+    JOIN_REQUEST("가입신청 {count}건이 도착했어요"),
+    ROLE_CHANGE("권한이 변경되었습니다.");
+
+    private final String summaryTitle;
+}
@@ -0,0 +1,19 @@
+package com.ggamakun.linkle.domain.notification.dto;
+
+import java.util.Date;
+
+import lombok.Data;
+
+/**
+ * 전송 대기 중인 알림 (NOTIFICATION_OUTBOX + NOTIFICATION)
+ */
+@Data
+public class OutboxNotification {
+    private Integer notificationId;
+    private Integer receiverId;
+    private Integer attempts;
+    private String title;
+    private String content;
+    private String linkUrl;
+    private Date sentAt;
+}
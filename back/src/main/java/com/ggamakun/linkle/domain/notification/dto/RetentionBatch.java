@@ -0,0 +1,26 @@
+package com.ggamakun.linkle.domain.notification.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 보관/정리 1회 처리 파라미터 / 결과
+ * - moved는 처리된 행 수, 프로시저 OUT 파라미터로 채워짐
+ */
+@Data
+@NoArgsConstructor
+public class RetentionBatch {
+    private int batchSize;
+    // 보관 기준 일수 / 합치기 기준 시간 (단계별로 사용)
+    private int age;
+    private Integer moved;
+
+    public RetentionBatch(int batchSize, int age) {
+        this.batchSize = batchSize;
+        this.age = age;
+    }
+
+    public int getMovedCount() {
+        return moved == null ? 0 : moved;
+    }
+}
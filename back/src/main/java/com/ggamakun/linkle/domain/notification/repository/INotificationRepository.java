@@ -1,23 +1,53 @@
 package com.ggamakun.linkle.domain.notification.repository;
 
+import java.util.Date;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import com.ggamakun.linkle.domain.notification.dto.CreateNotificationRequestDto;
+import com.ggamakun.linkle.domain.notification.dto.NotificationCoalesce;
 import com.ggamakun.linkle.domain.notification.dto.NotificationDto;
+import com.ggamakun.linkle.domain.notification.dto.OutboxNotification;
+import com.ggamakun.linkle.domain.notification.dto.RetentionBatch;
 
 @Mapper
 public interface INotificationRepository {
     
-    List<NotificationDto> findByReceiverId(Integer receiverId);
+    // 알림 목록 ((cursorSentAt, cursorId)보다 오래된 알림부터 size개)
+    List<NotificationDto> findByReceiverId(@Param("receiverId") Integer receiverId, @Param("size") Integer size,
+            @Param("cursorSentAt") Date cursorSentAt, @Param("cursorId") Integer cursorId);
+    
+    // 읽지 않은 알림 수
+    int countUnread(Integer receiverId);
     
     int insertNotification(CreateNotificationRequestDto request);
     
+    // 같은 종류의 읽지 않은 알림에 합치거나 새로 저장
+    void coalesceNotification(NotificationCoalesce coalesce);
+    
     int markAsRead(@Param("notificationId") Integer notificationId, @Param("memberId") Integer memberId);
     
     int markAllAsRead(Integer memberId);
     
-    int deleteNotification(@Param("notificationId") Integer notificationId, @Param("memberId") Integer memberId);
+    int deleteNotification(@Param("notificationId") Integer notificationId, @Param("memberId") Integer memberId, @Param("isRead") String isRead);
+    
+    // 전송 대기 알림 조회
+    List<OutboxNotification> findPendingOutbox(@Param("limit") int limit);
+    
+    // 전송 완료된 대기열 삭제
+    int deleteOutbox(@Param("notificationIds") List<Integer> notificationIds);
+    
+    // 전송 실패 시 재시도 예약
+    int retryOutbox(@Param("notificationId") Integer notificationId, @Param("delaySeconds") long delaySeconds, @Param("maxAttempts") int maxAttempts);
+    
+    // 오래된 읽은 알림 보관 테이블로 이동 (age: 일)
+    void archiveReadNotifications(RetentionBatch batch);
+    
+    // 삭제 처리된 알림 영구 삭제
+    void purgeDeletedNotifications(RetentionBatch batch);
+    
+    // 중복 알림 합치기 (age: 시간)
+    void collapseDuplicateNotifications(RetentionBatch batch);
 }
\ No newline at end of file
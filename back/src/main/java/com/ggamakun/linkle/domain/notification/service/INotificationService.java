@@ -6,14 +6,22 @@ import com.ggamakun.linkle.domain.notification.dto.CreateNotificationRequestDto;
 import com.ggamakun.linkle.domain.notification.dto.NotificationDto;
 
 public interface INotificationService {
-	//특정 회원의 알림 목록 조회
-    List<NotificationDto> getNotifications(Integer memberId);
+	//특정 회원의 알림 목록 조회 (최신순, 커서(sentAt epoch ms, notificationId) 이후 size개)
+    List<NotificationDto> getNotifications(Integer memberId, Integer size, Long cursorSentAt, Integer cursorId);
+
+    
+    //읽지 않은 알림 수
+    int getUnreadCount(Integer memberId);
 
     
     //알림 생성 및 실시간 발송
      void sendNotification(CreateNotificationRequestDto request);
 
     
+    //여러 회원에게 같은 알림 발송 (커밋 후 비동기 일괄 처리)
+    void sendNotifications(List<Integer> receiverIds, CreateNotificationRequestDto template);
+
+    
     //단일 알림 읽음 처리
     void markAsRead(Integer notificationId, Integer memberId);
 
@@ -0,0 +1,204 @@
+package com.ggamakun.linkle.domain.notification.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.domain.notification.dto.CreateNotificationRequestDto;
+import com.ggamakun.linkle.domain.notification.dto.NotificationCoalesce;
+import com.ggamakun.linkle.domain.notification.repository.INotificationRepository;
+import com.ggamakun.linkle.global.util.AfterCommit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 회원에게 같은 알림을 보내는 작업 처리
+ * - 호출한 트랜잭션이 커밋된 뒤 전용 스레드 풀에서 chunk 단위 작업으로 실행 (원본 트랜잭션을 오래 잡지 않음)
+ * - 대기열이 가득 차면 넘친 chunk 하나만 호출 스레드에서 처리, 종료 중이라 처리하지 못한 작업은 경고 로그와 실패 메트릭으로 남김
+ * - 알림 INSERT는 chunk 단위 JDBC batch (합치기 대상 종류는 수신자별 합치기), 웹소켓 전송은 chunk 커밋 후 전송 대기열(NotificationOutboxRelay)에서
+ * - 대기 작업 수는 notification.fanout 메트릭, 소요 시간은 notification.fanout.latency로 노출
+ */
+@Component
+@Slf4j
+public class NotificationFanout {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final INotificationRepository notificationRepository;
+    private final NotificationOutboxRelay outboxRelay;
+    private final UnreadCountCache unreadCountCache;
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+    private final long coalesceWindowSeconds;
+    private final long pushDelaySeconds;
+    private final Timer latency;
+    private final Counter failed;
+
+    public NotificationFanout(SqlSessionFactory sqlSessionFactory,
+                              INotificationRepository notificationRepository,
+                              NotificationOutboxRelay outboxRelay,
+                              UnreadCountCache unreadCountCache,
+                              MeterRegistry meterRegistry,
+                              @Value("${notification.fanout.threads:2}") int threads,
+                              @Value("${notification.fanout.queue-size:1000}") int queueSize,
+                              @Value("${notification.fanout.chunk-size:500}") int chunkSize,
+                              @Value("${notification.coalesce.window-seconds:600}") long coalesceWindowSeconds,
+                              @Value("${notification.coalesce.push-delay-seconds:5}") long pushDelaySeconds) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.notificationRepository = notificationRepository;
+        this.outboxRelay = outboxRelay;
+        this.unreadCountCache = unreadCountCache;
+        this.chunkSize = chunkSize;
+        this.coalesceWindowSeconds = coalesceWindowSeconds;
+        this.pushDelaySeconds = pushDelaySeconds;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-fanout-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                rejectionHandler());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "notification.fanout");
+        this.latency = Timer.builder("notification.fanout.latency").register(meterRegistry);
+        this.failed = Counter.builder("notification.fanout.failed").register(meterRegistry);
+    }
+
+    // 수신자 목록에 같은 내용의 알림 발송 (트랜잭션 중이면 커밋 후 시작)
+    public void dispatch(List<Integer> receiverIds, CreateNotificationRequestDto template) {
+        if (receiverIds == null || receiverIds.isEmpty()) {
+            return;
+        }
+        List<Integer> receivers = List.copyOf(receiverIds);
+        AfterCommit.run(() -> submit(receivers, template));
+    }
+
+    // chunk마다 작업 하나 (대기열이 찼을 때 호출 스레드가 떠안는 양을 chunk 하나로 제한)
+    private void submit(List<Integer> receivers, CreateNotificationRequestDto template) {
+        long queuedAt = System.nanoTime();
+        for (int from = 0; from < receivers.size(); from += chunkSize) {
+            List<Integer> chunk = receivers.subList(from, Math.min(from + chunkSize, receivers.size()));
+            executor.execute(new ChunkTask(chunk, template, queuedAt));
+        }
+        log.info("알림 일괄 발송 요청 - 제목: {}, 수신자: {}명", template.getTitle(), receivers.size());
+    }
+
+    private void run(List<Integer> chunk, CreateNotificationRequestDto template) {
+        try {
+            if (template.getKind() != null) {
+                coalesce(chunk, template);
+            } else {
+                insert(chunk, template);
+                chunk.forEach(receiverId -> unreadCountCache.add(receiverId, 1));
+            }
+        } catch (RuntimeException e) {
+            failed.increment(chunk.size());
+            log.error("알림 일괄 저장 실패 - 제목: {}, 건수: {}", template.getTitle(), chunk.size(), e);
+            return;
+        }
+        outboxRelay.requestDrain();
+    }
+
+    // 대기열이 가득 차면 경고 후 넘친 chunk만 호출 스레드에서 처리, 종료 후 들어온 작업은 경고 후 버림
+    private RejectedExecutionHandler rejectionHandler() {
+        return (runnable, pool) -> {
+            ChunkTask task = (ChunkTask) runnable;
+            if (pool.isShutdown()) {
+                dropped(task, "종료 후 요청");
+                return;
+            }
+            log.warn("알림 일괄 발송 대기열이 가득 차 호출 스레드에서 처리 - 제목: {}, 건수: {}, 대기: {}건",
+                    task.template.getTitle(), task.receivers.size(), pool.getQueue().size());
+            task.run();
+        };
+    }
+
+    private void dropped(ChunkTask task, String reason) {
+        failed.increment(task.receivers.size());
+        log.warn("알림 일괄 발송 미처리 ({}) - 제목: {}, 건수: {}, 수신자: {}",
+                reason, task.template.getTitle(), task.receivers.size(), task.receivers);
+    }
+
+    private void insert(List<Integer> receivers, CreateNotificationRequestDto template) {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+            INotificationRepository mapper = session.getMapper(INotificationRepository.class);
+            for (CreateNotificationRequestDto request : toRequests(receivers, template)) {
+                mapper.insertNotification(request);
+            }
+            session.flushStatements();
+            session.commit();
+        }
+    }
+
+    // 합치기 대상 알림은 수신자별로 기존 알림에 합치거나 저장 (OUT 결과가 필요해 batch 미사용)
+    private void coalesce(List<Integer> receivers, CreateNotificationRequestDto template) {
+        for (CreateNotificationRequestDto request : toRequests(receivers, template)) {
+            NotificationCoalesce coalesce = new NotificationCoalesce(request, coalesceWindowSeconds, pushDelaySeconds);
+            notificationRepository.coalesceNotification(coalesce);
+            if (!coalesce.isCoalescedNow()) {
+                unreadCountCache.add(request.getReceiverId(), 1);
+            }
+        }
+    }
+
+    private List<CreateNotificationRequestDto> toRequests(List<Integer> receivers, CreateNotificationRequestDto template) {
+        List<CreateNotificationRequestDto> requests = new ArrayList<>(receivers.size());
+        for (Integer receiverId : receivers) {
+            requests.add(CreateNotificationRequestDto.builder()
+                    .receiverId(receiverId)
+                    .title(template.getTitle())
+                    .content(template.getContent())
+                    .linkUrl(template.getLinkUrl())
+                    .createdBy(template.getCreatedBy())
+                    .kind(template.getKind())
+                    .build());
+        }
+        return requests;
+    }
+
+    // 대기 중인 작업은 10초 동안 처리, 남은 작업은 수신자와 함께 로그로 남김
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            return;
+        }
+        for (Runnable runnable : executor.shutdownNow()) {
+            dropped((ChunkTask) runnable, "종료 시 대기 중");
+        }
+    }
+
+    private final class ChunkTask implements Runnable {
+        private final List<Integer> receivers;
+        private final CreateNotificationRequestDto template;
+        private final long queuedAt;
+
+        private ChunkTask(List<Integer> receivers, CreateNotificationRequestDto template, long queuedAt) {
+            this.receivers = receivers;
+            this.template = template;
+            this.queuedAt = queuedAt;
+        }
+
+        @Override
+        public void run() {
+            NotificationFanout.this.run(receivers, template);
+            latency.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.ggamakun.linkle.domain.notification.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.domain.notification.dto.NotificationDto;
+import com.ggamakun.linkle.domain.notification.dto.OutboxNotification;
+import com.ggamakun.linkle.domain.notification.repository.INotificationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 전송 대기열(NOTIFICATION_OUTBOX) 처리
+ * - 알림 저장 트랜잭션이 커밋되면 바로, 그 외에는 주기적으로 대기열을 묶음 단위로 전송
+ * - 전송 성공 시 대기열에서 삭제, 실패 시 지연 후 재시도 (최대 횟수 초과 시 FAILED)
+ * - 전송은 전용 스레드 하나에서만 실행 (단일 서버 기준)
+ */
+@Component
+@Slf4j
+public class NotificationOutboxRelay {
+
+    private final INotificationRepository notificationRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelaySeconds;
+    // 이미 전송 작업이 예약되어 있으면 중복 예약하지 않음
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Counter sent;
+    private final Counter retried;
+
+    public NotificationOutboxRelay(INotificationRepository notificationRepository,
+                                   SimpMessagingTemplate messagingTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${notification.outbox.batch-size:200}") int batchSize,
+                                   @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+                                   @Value("${notification.outbox.retry-delay-seconds:30}") long retryDelaySeconds) {
+        this.notificationRepository = notificationRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelaySeconds = retryDelaySeconds;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sent = Counter.builder("notification.outbox.sent").register(meterRegistry);
+        this.retried = Counter.builder("notification.outbox.retried").register(meterRegistry);
+    }
+
+    // 대기열 전송 요청 (커밋 직후 호출)
+    public void requestDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    // 커밋 직후 요청이 없었거나 재시도 대기 중인 알림 처리
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        requestDrain();
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        try {
+            List<OutboxNotification> batch;
+            do {
+                batch = notificationRepository.findPendingOutbox(batchSize);
+                deliver(batch);
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.error("알림 대기열 처리 실패", e);
+        }
+    }
+
+    private void deliver(List<OutboxNotification> batch) {
+        List<Integer> delivered = new ArrayList<>(batch.size());
+        for (OutboxNotification notification : batch) {
+            try {
+                messagingTemplate.convertAndSendToUser(
+                    notification.getReceiverId().toString(),
+                    "/queue/notifications",
+                    NotificationDto.builder()
+                        .notificationId(notification.getNotificationId())
+                        .title(notification.getTitle())
+                        .content(notification.getContent())
+                        .linkUrl(notification.getLinkUrl())
+                        .isRead("N")
+                        .sentAt(notification.getSentAt())
+                        .build()
+                );
+                delivered.add(notification.getNotificationId());
+            } catch (RuntimeException e) {
+                log.warn("알림 전송 실패, 재시도 예약 - notificationId: {}, 시도: {}",
+                        notification.getNotificationId(), notification.getAttempts() + 1, e);
+                notificationRepository.retryOutbox(notification.getNotificationId(), retryDelaySeconds, maxAttempts);
+                retried.increment();
+            }
+        }
+        if (!delivered.isEmpty()) {
+            notificationRepository.deleteOutbox(delivered);
+            sent.increment(delivered.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ggamakun.linkle.domain.notification.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.domain.notification.dto.RetentionBatch;
+import com.ggamakun.linkle.domain.notification.repository.INotificationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 테이블 정리 작업 (하루 한 번)
+ * 1. 중복 알림 합치기 - 같은 회원에게 간 같은 제목/링크의 읽은 알림을 최신 하나로 합침
+ * 2. 보관 - 오래된 읽은 알림을 NOTIFICATION_ARCHIVE로 이동
+ * 3. 영구 삭제 - 삭제 처리(is_deleted = 'Y')된 알림 삭제
+ * - 단계별로 batchSize건씩 나눠서 커밋 (긴 트랜잭션/잠금 방지), 한 번 실행에 최대 maxBatches회
+ * - 처리 건수와 소요 시간은 로그와 notification.retention.* 메트릭으로 노출
+ */
+@Component
+@Slf4j
+public class NotificationRetentionJob {
+
+    private final INotificationRepository notificationRepository;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxBatches;
+    private final int archiveAfterDays;
+    private final int digestAfterHours;
+
+    public NotificationRetentionJob(INotificationRepository notificationRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${notification.retention.batch-size:1000}") int batchSize,
+                                    @Value("${notification.retention.max-batches:200}") int maxBatches,
+                                    @Value("${notification.retention.archive-after-days:90}") int archiveAfterDays,
+                                    @Value("${notification.retention.digest-after-hours:24}") int digestAfterHours) {
+        this.notificationRepository = notificationRepository;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.archiveAfterDays = archiveAfterDays;
+        this.digestAfterHours = digestAfterHours;
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}")
+    public void run() {
+        long startedAt = System.nanoTime();
+        // 합친 뒤 보관해야 보관 테이블에도 합쳐진 상태로 들어감
+        int collapsed = runStep("collapse", digestAfterHours, notificationRepository::collapseDuplicateNotifications);
+        int archived = runStep("archive", archiveAfterDays, notificationRepository::archiveReadNotifications);
+        int purged = runStep("purge", 0, notificationRepository::purgeDeletedNotifications);
+        log.info("알림 정리 완료 - 합침: {}건, 보관: {}건, 영구 삭제: {}건, 소요: {}ms",
+                collapsed, archived, purged, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    // 처리 건수가 batchSize보다 적을 때까지 반복
+    private int runStep(String step, int age, Consumer<RetentionBatch> action) {
+        long startedAt = System.nanoTime();
+        int total = 0;
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                RetentionBatch batch = new RetentionBatch(batchSize, age);
+                action.accept(batch);
+                total += batch.getMovedCount();
+                if (batch.getMovedCount() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 이미 커밋된 batch는 유지, 다음 단계는 계속 진행
+            log.error("알림 정리 실패 - 단계: {}, 처리: {}건", step, total, e);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        Counter.builder("notification.retention.rows").tag("step", step).register(meterRegistry).increment(total);
+        Timer.builder("notification.retention.duration").tag("step", step).register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("알림 정리 단계 완료 - 단계: {}, 처리: {}건, 소요: {}ms", step, total, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return total;
+    }
+}
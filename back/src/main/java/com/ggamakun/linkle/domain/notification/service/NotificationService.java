@@ -1,14 +1,17 @@
 package com.ggamakun.linkle.domain.notification.service;
 
+import java.util.Date;
 import java.util.List;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.ggamakun.linkle.domain.notification.dto.CreateNotificationRequestDto;
+import com.ggamakun.linkle.domain.notification.dto.NotificationCoalesce;
 import com.ggamakun.linkle.domain.notification.dto.NotificationDto;
 import com.ggamakun.linkle.domain.notification.repository.INotificationRepository;
+import com.ggamakun.linkle.global.util.AfterCommit;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,40 +20,75 @@ import lombok.RequiredArgsConstructor;
 public class NotificationService implements INotificationService{
 
     private final INotificationRepository notificationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationOutboxRelay outboxRelay;
+    private final NotificationFanout notificationFanout;
+    private final UnreadCountCache unreadCountCache;
 
-    public List<NotificationDto> getNotifications(Integer memberId) {
-        return notificationRepository.findByReceiverId(memberId);
+    @Value("${notification.inbox.max-size:100}")
+    private int maxPageSize;
+
+    // 같은 종류의 알림을 합치는 기간 (첫 알림 생성 시각 기준)
+    @Value("${notification.coalesce.window-seconds:600}")
+    private long coalesceWindowSeconds;
+
+    // 합쳐진 알림의 재전송 지연 (연속된 알림은 한 번만 전송)
+    @Value("${notification.coalesce.push-delay-seconds:5}")
+    private long pushDelaySeconds;
+
+    public List<NotificationDto> getNotifications(Integer memberId, Integer size, Long cursorSentAt, Integer cursorId) {
+        if (size == null || size <= 0) {
+            size = 20;
+        }
+        // 커서는 마지막 알림의 (sentAt, notificationId) 값, 둘 중 하나라도 없으면 첫 페이지
+        Date sentAt = cursorSentAt == null || cursorId == null ? null : new Date(cursorSentAt);
+        return notificationRepository.findByReceiverId(memberId, Math.min(size, maxPageSize), sentAt, cursorId);
+    }
+
+    public int getUnreadCount(Integer memberId) {
+        return unreadCountCache.get(memberId);
     }
 
     @Transactional
     public void sendNotification(CreateNotificationRequestDto request) {
-        notificationRepository.insertNotification(request);
+        if (request.getKind() != null) {
+            NotificationCoalesce coalesce = new NotificationCoalesce(request, coalesceWindowSeconds, pushDelaySeconds);
+            notificationRepository.coalesceNotification(coalesce);
+            // 기존 읽지 않은 알림에 합쳐졌으면 안 읽은 수는 그대로
+            if (!coalesce.isCoalescedNow()) {
+                unreadCountCache.add(request.getReceiverId(), 1);
+            }
+        } else {
+            notificationRepository.insertNotification(request);
+            unreadCountCache.add(request.getReceiverId(), 1);
+        }
         
-        messagingTemplate.convertAndSendToUser(
-            request.getReceiverId().toString(),
-            "/queue/notifications",
-            NotificationDto.builder()
-                .title(request.getTitle())
-                .content(request.getContent())
-                .linkUrl(request.getLinkUrl())
-                .isRead("N")
-                .build()
-        );
+        // 전송 대기열도 같은 트랜잭션에 저장되므로 커밋 후 전송만 요청
+        AfterCommit.run(outboxRelay::requestDrain);
+    }
+
+    public void sendNotifications(List<Integer> receiverIds, CreateNotificationRequestDto template) {
+        notificationFanout.dispatch(receiverIds, template);
     }
 
     @Transactional
     public void markAsRead(Integer notificationId, Integer memberId) {
-        notificationRepository.markAsRead(notificationId, memberId);
+        if (notificationRepository.markAsRead(notificationId, memberId) > 0) {
+            unreadCountCache.add(memberId, -1);
+        }
     }
 
     @Transactional
     public void markAllAsRead(Integer memberId) {
-        notificationRepository.markAllAsRead(memberId);
+        unreadCountCache.add(memberId, -notificationRepository.markAllAsRead(memberId));
     }
 
     @Transactional
     public void deleteNotification(Integer notificationId, Integer memberId) {
-        notificationRepository.deleteNotification(notificationId, memberId);
+        // 읽지 않은 알림이 삭제된 경우에만 안 읽은 수 감소
+        if (notificationRepository.deleteNotification(notificationId, memberId, "N") > 0) {
+            unreadCountCache.add(memberId, -1);
+        } else {
+            notificationRepository.deleteNotification(notificationId, memberId, null);
+        }
     }
 }
\ No newline at end of file
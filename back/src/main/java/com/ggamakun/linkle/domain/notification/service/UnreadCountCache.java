@@ -0,0 +1,63 @@
+package com.ggamakun.linkle.domain.notification.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.domain.notification.repository.INotificationRepository;
+import com.ggamakun.linkle.global.util.AfterCommit;
+import com.ggamakun.linkle.global.util.LoadGuard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 회원별 읽지 않은 알림 수 캐시
+ * - 처음 조회 시 DB에서 집계, 이후 알림 저장/읽음/삭제 커밋 시 증감
+ * - 캐시에 없는 회원은 증감하지 않음 (다음 조회 시 집계)
+ * - 증감 누락에 대비해 일정 시간이 지나면 다시 집계
+ */
+@Component
+public class UnreadCountCache {
+
+    private final INotificationRepository notificationRepository;
+    private final Cache<Integer, AtomicInteger> cache;
+    // 로드 중에 수가 바뀐 회원은 캐시에 남기지 않음
+    private final LoadGuard loadGuard = new LoadGuard();
+
+    public UnreadCountCache(INotificationRepository notificationRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${notification.unread.max-size:100000}") long maxSize,
+                            @Value("${notification.unread.ttl-minutes:10}") long ttlMinutes) {
+        this.notificationRepository = notificationRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "notification.unread.cache");
+    }
+
+    // 읽지 않은 알림 수
+    public int get(Integer memberId) {
+        return loadGuard.get(cache, memberId, id -> new AtomicInteger(notificationRepository.countUnread(id))).get();
+    }
+
+    // 읽지 않은 알림 수 증감 (트랜잭션 중이면 커밋 후)
+    public void add(Integer memberId, int delta) {
+        if (memberId == null || delta == 0) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            loadGuard.markChanged(memberId);
+            AtomicInteger count = cache.getIfPresent(memberId);
+            if (count != null) {
+                count.accumulateAndGet(delta, (current, d) -> Math.max(0, current + d));
+            }
+        });
+    }
+}
@@ -12,14 +12,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
 import com.ggamakun.linkle.domain.post.dto.CreatePostRequest;
 import com.ggamakun.linkle.domain.post.dto.PostDetail;
 import com.ggamakun.linkle.domain.post.dto.PostSummary;
 import com.ggamakun.linkle.domain.post.dto.UpdatePostRequest;
 import com.ggamakun.linkle.domain.post.entity.Post;
 import com.ggamakun.linkle.domain.post.service.IPostService;
+import com.ggamakun.linkle.domain.trending.dto.TrendingItem;
+import com.ggamakun.linkle.domain.trending.service.ITrendingService;
 import com.ggamakun.linkle.global.security.CustomUserDetails;
 
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,6 +35,7 @@ import lombok.RequiredArgsConstructor;
 public class PostController {
 	
 	private final IPostService postService;
+	private final ITrendingService trendingService;
 	
 	@GetMapping("")
 	public List<Post> list(){
@@ -38,8 +43,21 @@ public class PostController {
 	}
 	
 	@GetMapping("/summary")
-	public List<PostSummary> listSummary(){
-		return postService.listSummary();
+	public List<PostSummary> listSummary(@RequestParam(name = "size", defaultValue = "20") Integer size,
+			@RequestParam(name = "cursor", required = false) Integer cursor,
+			@RequestParam(name = "clubId", required = false) List<Integer> clubIds,
+			@RequestParam(name = "categoryId", required = false) Integer categoryId,
+			@Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails){
+		//로그인한 경우 좋아요 여부 포함
+		Integer memberId = userDetails != null ? userDetails.getMember().getMemberId() : null;
+		return postService.listSummary(memberId, clubIds, categoryId, size, cursor);
+	}
+	
+	//인기 게시글 (window: 1h, 24h, 7d)
+	@GetMapping("/trending")
+	public List<TrendingItem> trending(@RequestParam(name = "window", defaultValue = "24h") String window,
+			@RequestParam(name = "limit", defaultValue = "20") int limit){
+		return trendingService.getTrending(LikeTargetType.POST, window, limit);
 	}
 	
 	//상세게시글 조회
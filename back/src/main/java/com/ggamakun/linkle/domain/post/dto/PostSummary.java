@@ -12,7 +12,8 @@ public class PostSummary {
 	private String clubName;
 	private String images;
 	private String title;
-	private String content;
+	// 본문 앞부분 (post.feed.excerpt-length자)
+	private String excerpt;
 	private String scope;
 	private Integer viewCount;
 	private Integer likeCount;
@@ -23,4 +24,6 @@ public class PostSummary {
 	private String authorNickname;
 	private String categoryName;
 	private String parentCategoryName;
+	// 로그인한 회원의 좋아요 여부 (비로그인이면 null)
+	private Boolean likedByMe;
 }
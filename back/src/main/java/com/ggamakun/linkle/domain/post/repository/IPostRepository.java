@@ -16,9 +16,12 @@ public interface IPostRepository {
 
 	List<Post> listAll();
 
-	List<PostSummary> listSummary();
+	//커뮤니티 피드 (cursor 게시글보다 오래된 게시글부터 size개, clubIds가 있으면 해당 동호회만)
+	List<PostSummary> listSummary(@Param("clubIds") List<Integer> clubIds, @Param("categoryId") Integer categoryId,
+			@Param("size") Integer size, @Param("cursor") Integer cursor, @Param("excerptLength") int excerptLength);
 
-	void increaseViewCount(Integer postId);
+	//누적된 조회수 반영 (ViewCountBuffer에서 batch로 호출)
+	int addViewCount(@Param("postId") Integer postId, @Param("delta") long delta);
 
 	PostDetail findPostDetail(Integer postId);
 
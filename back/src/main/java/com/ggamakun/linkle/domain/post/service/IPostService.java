@@ -12,7 +12,7 @@ public interface IPostService {
 
 	List<Post> listAll();
 
-	List<PostSummary> listSummary();
+	List<PostSummary> listSummary(Integer memberId, List<Integer> clubIds, Integer categoryId, Integer size, Integer cursor);
 
 	PostDetail getPost(Integer postId, boolean increase);
 
@@ -0,0 +1,101 @@
+package com.ggamakun.linkle.domain.post.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.domain.post.dto.PostDetail;
+import com.ggamakun.linkle.domain.post.repository.IPostRepository;
+import com.ggamakun.linkle.global.util.AfterCommit;
+import com.ggamakun.linkle.global.util.LoadGuard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 게시글 상세 캐시 (postId -> findPostDetail 결과)
+ * - 캐시에 저장된 값은 수정하지 않고 조회할 때마다 복사본을 반환 (호출 측에서 카운터를 덧씌움)
+ * - 게시글 수정/삭제, 댓글 수 변경 시 무효화
+ * - 조회수 일괄 반영 시 반영 전에 로드가 끝난 값에는 반영량을 더하고, 반영 중에 로드된 값은 무효화
+ * - 좋아요 수는 캐시하지 않고 LikeCounterEngine 값을 사용
+ */
+@Component
+public class PostDetailCache {
+
+	private final IPostRepository postRepository;
+	private final Cache<Integer, Snapshot> cache;
+	// 로드 중에 무효화되거나 조회수가 반영된 게시글은 캐시에 남기지 않음
+	private final LoadGuard loadGuard = new LoadGuard();
+
+	public PostDetailCache(IPostRepository postRepository,
+			MeterRegistry meterRegistry,
+			@Value("${post.detail-cache.max-size:10000}") long maxSize,
+			@Value("${post.detail-cache.ttl-seconds:300}") long ttlSeconds) {
+		this.postRepository = postRepository;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "post.detail.cache");
+	}
+
+	// 게시글 상세 복사본 (없으면 null)
+	public PostDetail get(Integer postId) {
+		Snapshot snapshot = loadGuard.get(cache, postId, this::load);
+		return snapshot == null ? null : copy(snapshot.detail);
+	}
+
+	// 게시글 한 건 무효화 (트랜잭션 중이면 완료 후 한 번 더)
+	public void evict(Integer postId) {
+		if (postId == null) {
+			return;
+		}
+		AfterCommit.nowAndAfterCompletion(() -> {
+			loadGuard.markChanged(postId);
+			cache.invalidate(postId);
+		});
+	}
+
+	// 조회수 일괄 반영 결과 적용
+	public void applyViews(List<Map.Entry<Integer, Long>> flushed, long flushStartedAt, long flushCommittedAt) {
+		for (Map.Entry<Integer, Long> entry : flushed) {
+			loadGuard.markChanged(entry.getKey());
+			cache.asMap().computeIfPresent(entry.getKey(), (postId, snapshot) -> {
+				// 커밋 이후에 로드 시작 - 이미 반영된 조회수
+				if (snapshot.loadStartedAt >= flushCommittedAt) {
+					return snapshot;
+				}
+				// 반영 중에 로드됨 - 포함 여부를 알 수 없어 무효화
+				if (snapshot.loadFinishedAt >= flushStartedAt) {
+					return null;
+				}
+				PostDetail detail = copy(snapshot.detail);
+				int base = detail.getViewCount() == null ? 0 : detail.getViewCount();
+				detail.setViewCount((int) (base + entry.getValue()));
+				return new Snapshot(detail, snapshot.loadStartedAt, snapshot.loadFinishedAt);
+			});
+		}
+	}
+
+	private Snapshot load(Integer postId) {
+		long loadStartedAt = System.nanoTime();
+		PostDetail detail = postRepository.findPostDetail(postId);
+		return detail == null ? null : new Snapshot(detail, loadStartedAt, System.nanoTime());
+	}
+
+	private static PostDetail copy(PostDetail source) {
+		PostDetail target = new PostDetail();
+		BeanUtils.copyProperties(source, target);
+		return target;
+	}
+
+	private record Snapshot(PostDetail detail, long loadStartedAt, long loadFinishedAt) {
+	}
+}
@@ -3,7 +3,10 @@ package com.ggamakun.linkle.domain.post.service;
 
 
 import java.util.List;
+import java.util.function.BiPredicate;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -11,13 +14,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import com.ggamakun.linkle.domain.club.repository.IClubRepository;
+import com.ggamakun.linkle.domain.club.service.ClubAccessService;
+import com.ggamakun.linkle.domain.feed.service.IFeedService;
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.like.service.LikeCounterEngine;
+import com.ggamakun.linkle.domain.like.service.LikedSetCache;
 import com.ggamakun.linkle.domain.post.dto.CreatePostRequest;
 import com.ggamakun.linkle.domain.post.dto.PostDetail;
 import com.ggamakun.linkle.domain.post.dto.PostSummary;
 import com.ggamakun.linkle.domain.post.dto.UpdatePostRequest;
 import com.ggamakun.linkle.domain.post.entity.Post;
 import com.ggamakun.linkle.domain.post.repository.IPostRepository;
+import com.ggamakun.linkle.domain.trending.dto.ActivityEvent;
+import com.ggamakun.linkle.domain.trending.dto.ActivityType;
 import com.ggamakun.linkle.global.security.CustomUserDetails;
 
 import lombok.RequiredArgsConstructor;
@@ -29,7 +38,19 @@ import lombok.extern.slf4j.Slf4j;
 public class PostService implements IPostService {
 
 	private final IPostRepository postRepository;
-	private final IClubRepository clubRepository;
+	private final ClubAccessService clubAccessService;
+	private final LikeCounterEngine likeCounter;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ViewCountBuffer viewCountBuffer;
+	private final LikedSetCache likedSetCache;
+	private final IFeedService feedService;
+	private final PostDetailCache postDetailCache;
+	
+	@Value("${post.feed.max-size:50}")
+	private int maxFeedSize;
+	
+	@Value("${post.feed.excerpt-length:300}")
+	private int excerptLength;
 	
 	@Override
 	public List<Post> listAll() {
@@ -38,16 +59,33 @@ public class PostService implements IPostService {
 	}
 
 	@Override
-	public List<PostSummary> listSummary() {
+	public List<PostSummary> listSummary(Integer memberId, List<Integer> clubIds, Integer categoryId, Integer size, Integer cursor) {
 		
-		return postRepository.listSummary();
+		if (size == null || size <= 0) {
+			size = 20;
+		}
+		List<PostSummary> list = postRepository.listSummary(clubIds, categoryId, Math.min(size, maxFeedSize), cursor, excerptLength);
+		//로그인한 경우 좋아요 여부 (회원별 좋아요 캐시에서 확인)
+		BiPredicate<LikeTargetType, Integer> liked = null;
+		if (memberId != null && !list.isEmpty()) {
+			liked = likedSetCache.likedAmong(memberId, list.stream().map(PostSummary::getPostId).toList(), null, null);
+		}
+		for (PostSummary summary : list) {
+			//아직 DB에 반영되지 않은 좋아요 증감량 포함
+			summary.setLikeCount(likeCounter.withPending(LikeTargetType.POST, summary.getPostId(), summary.getLikeCount()));
+			if (liked != null) {
+				summary.setLikedByMe(liked.test(LikeTargetType.POST, summary.getPostId()));
+			}
+		}
+		return list;
 	}
 
 	@Override
-	@Transactional(readOnly=false)
+	@Transactional(readOnly=true)
 	public PostDetail getPost(Integer postId, boolean increase) {
 		
-		PostDetail dto = postRepository.findPostDetail(postId);
+		//캐시된 상세 정보의 복사본 (카운터는 아래에서 덧씌움)
+		PostDetail dto = postDetailCache.get(postId);
 		if(dto == null)throw new ResponseStatusException(HttpStatus.NOT_FOUND,"post not found");
 		
 		//scope가 '회원'이면 동호회 멤버만 볼 수 있음
@@ -64,7 +102,7 @@ public class PostService implements IPostService {
 //			if(memberCount == 0) {
 //				throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이 게시글은 동호회 멤버만 볼 수 있다.");
 //			}
-			boolean isMember = clubRepository.isClubMember(dto.getClubId(), currentMemberId) > 0;
+			boolean isMember = clubAccessService.getAccess(dto.getClubId(), currentMemberId).isMember();
 	        //  
 	        log.info("access check clubId={}, memberId={}, isMember={}",
 	                dto.getClubId(), currentMemberId, isMember);
@@ -73,11 +111,13 @@ public class PostService implements IPostService {
 	            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이 게시글은 동호회 멤버만 볼 수 있다.");
 	        }
 		}
-		//조회수 증가
-		if (increase) {
-		    postRepository.increaseViewCount(postId);
-		    dto = postRepository.findPostDetail(postId); // 증가 반영된 최신값으로 교체
+		//조회수 증가 (메모리에 누적 후 일괄 반영, 같은 회원의 반복 조회는 한 번만 집계)
+		if (increase && viewCountBuffer.recordView(postId, getCurrentMemberId())) {
+		    eventPublisher.publishEvent(ActivityEvent.of(LikeTargetType.POST, postId, ActivityType.VIEW));
 		}
+		dto.setViewCount(viewCountBuffer.withPending(postId, dto.getViewCount()));
+		//좋아요 수는 카운터 엔진 값 (아직 DB에 반영되지 않은 증감량 포함)
+		dto.setLikeCount(likeCounter.getLikeCount(LikeTargetType.POST, postId));
 		return dto;
 	}
 
@@ -85,14 +125,17 @@ public class PostService implements IPostService {
 	@Transactional
 	public Integer insertPost(CreatePostRequest request) {
 		
-		return postRepository.insertPost(request);
+		postRepository.insertPost(request);
+		//동호회 회원의 홈 피드에 추가
+		feedService.publish(request.getClubId(), request.getPostId());
+		return request.getPostId();
 	}
 
 	@Override
 	@Transactional
 	public PostDetail updatePost(Integer postId, UpdatePostRequest request, Integer memberId) {
 		//게시글 존재 여부 확인
-		PostDetail post = postRepository.findPostDetail(postId);
+		PostDetail post = postDetailCache.get(postId);
 		if(post == null) {
 			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
 		}
@@ -107,6 +150,7 @@ public class PostService implements IPostService {
 		if(updated == 0) {
 			throw new ResponseStatusException(HttpStatus.NOT_FOUND,"post not found");
 		}
+		postDetailCache.evict(postId);
 		return postRepository.findPostDetail(postId);
 	}
 
@@ -114,7 +158,7 @@ public class PostService implements IPostService {
 	@Transactional
 	public void deletePost(Integer postId, Integer memberId) {
 		//게시글 존재 여부 확인
-		PostDetail post = postRepository.findPostDetail(postId);
+		PostDetail post = postDetailCache.get(postId);
 		if(post == null) {
 			throw new ResponseStatusException(HttpStatus.NOT_FOUND,"게시글을 찾을 수 없다.");
 		}
@@ -129,6 +173,7 @@ public class PostService implements IPostService {
 		if(deleted == 0) {
 			throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,"게시글 삭제에 실패했다.");
 		}
+		postDetailCache.evict(postId);
 		
 	}
 	
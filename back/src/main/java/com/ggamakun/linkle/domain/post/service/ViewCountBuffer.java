@@ -0,0 +1,150 @@
+package com.ggamakun.linkle.domain.post.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.domain.post.repository.IPostRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글/공지사항 조회수 버퍼 (공지사항도 POST 테이블)
+ * - 같은 회원의 같은 글 조회는 일정 시간 안에 한 번만 집계
+ * - 조회수는 메모리에 누적했다가 주기적으로 JDBC batch로 일괄 반영
+ * - 상세 조회 응답에는 아직 반영되지 않은 조회수를 더해서 반환
+ */
+@Component
+@Slf4j
+public class ViewCountBuffer {
+
+	private final SqlSessionFactory sqlSessionFactory;
+	private final PostDetailCache postDetailCache;
+	private final int batchSize;
+	// 게시글 ID -> 반영 대기 중인 조회수
+	private final Map<Integer, Long> pending = new ConcurrentHashMap<>();
+	// 게시글 ID -> 반영 중인 조회수 (커밋 전까지 응답에 계속 더함)
+	private final Map<Integer, Long> inFlight = new ConcurrentHashMap<>();
+	// (memberId << 32 | postId) -> 집계 여부
+	private final Cache<Long, Boolean> recentViews;
+	// flush 중복 실행 방지 (virtual 프로필에서 batch 커밋 대기 중 pinning 없음)
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	public ViewCountBuffer(SqlSessionFactory sqlSessionFactory,
+			PostDetailCache postDetailCache,
+			MeterRegistry meterRegistry,
+			@Value("${post.view.batch-size:500}") int batchSize,
+			@Value("${post.view.dedupe-minutes:30}") long dedupeMinutes,
+			@Value("${post.view.dedupe-max-size:200000}") long dedupeMaxSize) {
+		this.sqlSessionFactory = sqlSessionFactory;
+		this.postDetailCache = postDetailCache;
+		this.batchSize = batchSize;
+		this.recentViews = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofMinutes(dedupeMinutes))
+				.maximumSize(dedupeMaxSize)
+				.build();
+		Gauge.builder("post.view.pending", pending, Map::size)
+				.register(meterRegistry);
+	}
+
+	// 조회 기록 (비로그인 조회는 중복 제거 없이 집계), 집계되었으면 true
+	public boolean recordView(Integer postId, Integer memberId) {
+		if (memberId != null) {
+			long key = ((long) memberId << 32) | (postId & 0xFFFFFFFFL);
+			if (recentViews.asMap().putIfAbsent(key, Boolean.TRUE) != null) {
+				return false;
+			}
+		}
+		pending.merge(postId, 1L, Long::sum);
+		return true;
+	}
+
+	// DB 조회수에 반영 대기 중/반영 중인 조회수를 더함
+	public int withPending(Integer postId, Integer dbCount) {
+		int base = dbCount == null ? 0 : dbCount;
+		return (int) (base + pending.getOrDefault(postId, 0L) + inFlight.getOrDefault(postId, 0L));
+	}
+
+	// 누적된 조회수 일괄 반영
+	@Scheduled(fixedDelayString = "${post.view.flush-interval-ms:5000}")
+	public void flush() {
+		flushLock.lock();
+		try {
+			flushLocked();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void flushLocked() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		// pending에서 빼면서 inFlight로 옮김 (조회 응답에서 빠지는 순간이 없도록 같은 compute 안에서)
+		List<Map.Entry<Integer, Long>> drained = new ArrayList<>();
+		for (Integer postId : pending.keySet()) {
+			pending.computeIfPresent(postId, (id, delta) -> {
+				if (delta > 0) {
+					inFlight.merge(id, delta, Long::sum);
+					drained.add(Map.entry(id, delta));
+				}
+				return null;
+			});
+		}
+
+		for (int from = 0; from < drained.size(); from += batchSize) {
+			List<Map.Entry<Integer, Long>> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+			long startedAt = System.nanoTime();
+			long committedAt;
+			try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+				IPostRepository mapper = session.getMapper(IPostRepository.class);
+				for (Map.Entry<Integer, Long> entry : chunk) {
+					mapper.addViewCount(entry.getKey(), entry.getValue());
+				}
+				session.flushStatements();
+				session.commit();
+				committedAt = System.nanoTime();
+			} catch (RuntimeException e) {
+				// 실패한 조회수는 다시 누적해서 다음 주기에 재시도
+				log.error("조회수 반영 실패 - 건수: {}", chunk.size(), e);
+				chunk.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), Long::sum));
+				release(chunk);
+				continue;
+			}
+			// 커밋된 조회수는 캐시된 상세 조회 결과에 반영한 뒤 inFlight에서 뺌
+			postDetailCache.applyViews(chunk, startedAt, committedAt);
+			release(chunk);
+		}
+	}
+
+	// 반영이 끝난(또는 pending으로 되돌린) 조회수를 inFlight에서 뺌
+	private void release(List<Map.Entry<Integer, Long>> chunk) {
+		for (Map.Entry<Integer, Long> entry : chunk) {
+			inFlight.computeIfPresent(entry.getKey(), (id, delta) -> {
+				long left = delta - entry.getValue();
+				return left == 0 ? null : left;
+			});
+		}
+	}
+
+	// 종료 시 남은 조회수 반영
+	@PreDestroy
+	public void shutdown() {
+		flush();
+	}
+}
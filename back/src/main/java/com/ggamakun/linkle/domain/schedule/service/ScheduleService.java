@@ -65,23 +65,21 @@ public class ScheduleService implements IScheduleService {
         	Club club = clubRepository.findById(request.getClubId());
         	String clubName = (club != null) ? club.getName() : "동호회";
         	
-        	for(ClubMemberDto member : members) {
-        		//작성자 본인에게는 알림 발송 안함
-        		if(member.getMemberId().equals(request.getCreatedBy())){
-        			continue;
-        		}
-        		
-        		notificationService.sendNotification(
-        				CreateNotificationRequestDto.builder()
-        				.receiverId(member.getMemberId())
-        				.title("새로운 일정이 등록되었습니다.")
-        				.content(clubName + " - " + request.getTitle())
-        				.linkUrl("/clubs/" + request.getClubId() + "/schedule")
-        				.createdBy(request.getCreatedBy())
-        				.build()
-        		);
-        				
-        	}
+        	//작성자 본인에게는 알림 발송 안함
+        	List<Integer> receiverIds = members.stream()
+        			.map(ClubMemberDto::getMemberId)
+        			.filter(id -> !id.equals(request.getCreatedBy()))
+        			.toList();
+        	
+        	//커밋 후 일괄 발송
+        	notificationService.sendNotifications(receiverIds,
+        			CreateNotificationRequestDto.builder()
+        			.title("새로운 일정이 등록되었습니다.")
+        			.content(clubName + " - " + request.getTitle())
+        			.linkUrl("/clubs/" + request.getClubId() + "/schedule")
+        			.createdBy(request.getCreatedBy())
+        			.build()
+        	);
         }
         
         log.info("일정 생성 완료 - Schedule ID: {}", schedule.getScheduleId());
@@ -115,19 +113,20 @@ public class ScheduleService implements IScheduleService {
         	Club club = clubRepository.findById(existing.getClubId());
         	String clubName = (club != null) ? club.getName() : "동호회";
             
-            for (AttendeeInfo attendee : attendees) {
-                if ("ATTEND".equals(attendee.getAttendanceStatus())) {
-                    notificationService.sendNotification(
-                        CreateNotificationRequestDto.builder()
-                            .receiverId(attendee.getMemberId())
-                            .title("일정이 취소되었습니다")
-                            .content(clubName + " - " + existing.getTitle() + " 일정이 취소되었습니다.")
-                            .linkUrl("/clubs/" + existing.getClubId() + "/schedule")
-                            .createdBy(memberId)
-                            .build()
-                    );
-                }
-            }
+            List<Integer> receiverIds = attendees.stream()
+                    .filter(attendee -> "ATTEND".equals(attendee.getAttendanceStatus()))
+                    .map(AttendeeInfo::getMemberId)
+                    .toList();
+            
+            //커밋 후 일괄 발송
+            notificationService.sendNotifications(receiverIds,
+                CreateNotificationRequestDto.builder()
+                    .title("일정이 취소되었습니다")
+                    .content(clubName + " - " + existing.getTitle() + " 일정이 취소되었습니다.")
+                    .linkUrl("/clubs/" + existing.getClubId() + "/schedule")
+                    .createdBy(memberId)
+                    .build()
+            );
         }
         
         log.info("일정 취소 완료 - Schedule ID: {}", scheduleId);
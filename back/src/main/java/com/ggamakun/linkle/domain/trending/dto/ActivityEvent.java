@@ -0,0 +1,22 @@
+package com.ggamakun.linkle.domain.trending.dto;
+
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글/갤러리 활동 이벤트 (좋아요, 댓글, 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class ActivityEvent {
+	private final LikeTargetType targetType;
+	private final Integer targetId;
+	private final ActivityType activityType;
+	private final long occurredAt;
+
+	public static ActivityEvent of(LikeTargetType targetType, Integer targetId, ActivityType activityType) {
+		return new ActivityEvent(targetType, targetId, activityType, System.currentTimeMillis());
+	}
+}
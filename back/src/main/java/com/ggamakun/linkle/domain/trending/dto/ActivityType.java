@@ -0,0 +1,18 @@
+package com.ggamakun.linkle.domain.trending.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 점수에 반영되는 활동 종류와 가중치
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ActivityType {
+	VIEW(1),
+	LIKE(3),
+	UNLIKE(-3),
+	COMMENT(5);
+
+	private final double weight;
+}
@@ -0,0 +1,14 @@
+package com.ggamakun.linkle.domain.trending.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 인기 대상 (게시글/갤러리 ID, 점수)
+ */
+@Data
+@AllArgsConstructor
+public class TrendingItem {
+	private Integer targetId;
+	private double score;
+}
@@ -0,0 +1,29 @@
+package com.ggamakun.linkle.domain.trending.dto;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 점수 집계 구간 (점수는 구간 길이를 평균 수명으로 지수 감쇠)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+	HOUR("1h", Duration.ofHours(1)),
+	DAY("24h", Duration.ofHours(24)),
+	WEEK("7d", Duration.ofDays(7));
+
+	private final String code;
+	private final Duration duration;
+
+	public static TrendingWindow from(String code) {
+		for (TrendingWindow window : values()) {
+			if (window.code.equalsIgnoreCase(code)) {
+				return window;
+			}
+		}
+		return null;
+	}
+}
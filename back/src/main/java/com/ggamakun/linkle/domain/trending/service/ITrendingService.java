@@ -0,0 +1,12 @@
+package com.ggamakun.linkle.domain.trending.service;
+
+import java.util.List;
+
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.trending.dto.TrendingItem;
+
+public interface ITrendingService {
+
+	// 구간별 인기 대상 (window: 1h, 24h, 7d)
+	List<TrendingItem> getTrending(LikeTargetType targetType, String window, int limit);
+}
@@ -0,0 +1,184 @@
+package com.ggamakun.linkle.domain.trending.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.trending.dto.ActivityEvent;
+import com.ggamakun.linkle.domain.trending.dto.TrendingItem;
+import com.ggamakun.linkle.domain.trending.dto.TrendingWindow;
+import com.ggamakun.linkle.global.exception.BadRequestException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글/갤러리 인기 점수 집계
+ * - 좋아요, 댓글, 조회 이벤트를 받아 대상별로 구간(1h, 24h, 7d)마다 지수 감쇠 점수 유지
+ * - 주기적으로 구간별 상위 K개를 계산해 두고 조회는 계산된 목록으로 응답
+ * - 메모리 집계라 재시작하면 점수는 0부터 다시 쌓임
+ */
+@Service
+@Slf4j
+public class TrendingService implements ITrendingService {
+
+	// 인기 목록을 제공하는 대상 타입
+	private static final Set<LikeTargetType> TRACKED = EnumSet.of(LikeTargetType.POST, LikeTargetType.GALLERY);
+	// 이 점수 아래로 감쇠된 대상은 집계에서 제거
+	private static final double MIN_SCORE = 0.01;
+
+	private final int topK;
+	private final Map<LikeTargetType, ConcurrentHashMap<Integer, DecayingScore>> scores = new EnumMap<>(LikeTargetType.class);
+	// 타입 -> 구간 -> 상위 K개 (점수 내림차순)
+	private volatile Map<LikeTargetType, Map<TrendingWindow, List<TrendingItem>>> snapshot = Map.of();
+
+	public TrendingService(MeterRegistry meterRegistry,
+			@Value("${trending.top-k:100}") int topK) {
+		this.topK = topK;
+		for (LikeTargetType type : TRACKED) {
+			scores.put(type, new ConcurrentHashMap<>());
+		}
+		Gauge.builder("trending.tracked", this, service -> service.scores.values().stream().mapToInt(Map::size).sum())
+				.register(meterRegistry);
+	}
+
+	// 활동 이벤트 반영 (트랜잭션 중 발행된 이벤트는 커밋 후에만 반영)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onActivity(ActivityEvent event) {
+		Map<Integer, DecayingScore> targetScores = scores.get(event.getTargetType());
+		if (targetScores == null || event.getTargetId() == null) {
+			return;
+		}
+		// 정리(refresh)와 같은 맵 잠금 안에서 더해야 제거된 점수에 더해져 유실되지 않음
+		targetScores.compute(event.getTargetId(), (id, score) -> {
+			DecayingScore result = score == null ? new DecayingScore() : score;
+			result.add(event.getActivityType().getWeight(), event.getOccurredAt());
+			return result;
+		});
+	}
+
+	// 구간별 상위 K개 재계산
+	@Scheduled(fixedDelayString = "${trending.refresh-interval-ms:30000}")
+	public void refresh() {
+		long now = System.currentTimeMillis();
+		Map<LikeTargetType, Map<TrendingWindow, List<TrendingItem>>> next = new EnumMap<>(LikeTargetType.class);
+
+		for (LikeTargetType type : TRACKED) {
+			Map<TrendingWindow, PriorityQueue<TrendingItem>> heaps = new EnumMap<>(TrendingWindow.class);
+			for (TrendingWindow window : TrendingWindow.values()) {
+				heaps.put(window, new PriorityQueue<>(Comparator.comparingDouble(TrendingItem::getScore)));
+			}
+
+			ConcurrentHashMap<Integer, DecayingScore> targetScores = scores.get(type);
+			for (Map.Entry<Integer, DecayingScore> entry : targetScores.entrySet()) {
+				double[] values = entry.getValue().valuesAt(now);
+				// 가장 긴 구간에서도 거의 0이면 제거 (그 사이 반영된 활동이 있을 수 있어 맵 잠금 안에서 다시 확인)
+				if (values[TrendingWindow.WEEK.ordinal()] < MIN_SCORE) {
+					targetScores.computeIfPresent(entry.getKey(),
+							(id, score) -> score.valuesAt(now)[TrendingWindow.WEEK.ordinal()] < MIN_SCORE ? null : score);
+					continue;
+				}
+				for (TrendingWindow window : TrendingWindow.values()) {
+					offer(heaps.get(window), new TrendingItem(entry.getKey(), values[window.ordinal()]));
+				}
+			}
+
+			Map<TrendingWindow, List<TrendingItem>> ranked = new EnumMap<>(TrendingWindow.class);
+			heaps.forEach((window, heap) -> {
+				List<TrendingItem> items = new ArrayList<>(heap);
+				items.sort(Comparator.comparingDouble(TrendingItem::getScore).reversed());
+				ranked.put(window, List.copyOf(items));
+			});
+			next.put(type, ranked);
+		}
+		snapshot = next;
+	}
+
+	private void offer(PriorityQueue<TrendingItem> heap, TrendingItem item) {
+		if (item.getScore() < MIN_SCORE) {
+			return;
+		}
+		if (heap.size() < topK) {
+			heap.offer(item);
+		} else if (heap.peek().getScore() < item.getScore()) {
+			heap.poll();
+			heap.offer(item);
+		}
+	}
+
+	@Override
+	public List<TrendingItem> getTrending(LikeTargetType targetType, String window, int limit) {
+		TrendingWindow trendingWindow = TrendingWindow.from(window);
+		if (trendingWindow == null) {
+			throw new BadRequestException("지원하지 않는 구간입니다. (1h, 24h, 7d)");
+		}
+		List<TrendingItem> items = snapshot.getOrDefault(targetType, Map.of())
+				.getOrDefault(trendingWindow, List.of());
+		int size = Math.max(0, Math.min(limit, items.size()));
+		return items.subList(0, size);
+	}
+
+	/**
+	 * 대상 하나의 구간별 지수 감쇠 점수
+	 */
+	static final class DecayingScore {
+		private final double[] values = new double[TrendingWindow.values().length];
+		private long updatedAt = System.currentTimeMillis();
+		private final ReentrantLock lock = new ReentrantLock();
+
+		void add(double weight, long at) {
+			lock.lock();
+			try {
+				decayTo(Math.max(at, updatedAt));
+				for (int i = 0; i < values.length; i++) {
+					values[i] = Math.max(0, values[i] + weight);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		double[] valuesAt(long now) {
+			lock.lock();
+			try {
+				double[] result = new double[values.length];
+				long elapsed = Math.max(0, now - updatedAt);
+				for (TrendingWindow window : TrendingWindow.values()) {
+					result[window.ordinal()] = values[window.ordinal()] * decay(window, elapsed);
+				}
+				return result;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void decayTo(long now) {
+			long elapsed = now - updatedAt;
+			if (elapsed <= 0) {
+				return;
+			}
+			for (TrendingWindow window : TrendingWindow.values()) {
+				values[window.ordinal()] *= decay(window, elapsed);
+			}
+			updatedAt = now;
+		}
+
+		private static double decay(TrendingWindow window, long elapsedMillis) {
+			return Math.exp(-(double) elapsedMillis / window.getDuration().toMillis());
+		}
+	}
+}
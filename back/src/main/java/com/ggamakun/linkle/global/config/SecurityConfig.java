@@ -1,11 +1,13 @@
 package com.ggamakun.linkle.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,6 +16,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import com.ggamakun.linkle.global.security.CustomUserDetailsService;
 import com.ggamakun.linkle.global.security.JwtAuthenticationFilter;
+import com.ggamakun.linkle.global.security.SecurityPaths;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,7 +44,8 @@ public class SecurityConfig {
             
             .authorizeHttpRequests(auth -> auth
             	.requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll()
-                .requestMatchers("/", "/index.html", "/css/**", "/images/**", "/js/**", "/assets/**", "/favicon.ico", "/h2-console/**").permitAll()
+                .requestMatchers("/", "/index.html", "/h2-console/**").permitAll()
+                .requestMatchers(SecurityPaths.STATIC_RESOURCES).permitAll()
                 .requestMatchers("/ws/**").permitAll()
                 .requestMatchers("/auth/**").permitAll()
                 .requestMatchers("/chatbot/**").permitAll()
@@ -49,7 +53,7 @@ public class SecurityConfig {
                 .requestMatchers("/member/**").permitAll()
                 .requestMatchers("/categories/**").permitAll()
                 .requestMatchers("/file/**").permitAll()
-                .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/swagger-ui.html").permitAll()
+                .requestMatchers(SecurityPaths.API_DOCS).permitAll()
                 .requestMatchers("GET","/posts/").permitAll()
                 .requestMatchers("GET","/posts/summary").permitAll()
                 .requestMatchers("GET","/posts/**").permitAll()
@@ -74,9 +78,16 @@ public class SecurityConfig {
         return http.build();
     }
     
+    // 정적 리소스는 보안 필터 체인을 거치지 않음
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public WebSecurityCustomizer webSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers(SecurityPaths.STATIC_RESOURCES);
+    }
+    
+    // BCrypt cost (로그인 시 더 낮은 cost로 저장된 해시는 자동으로 재암호화)
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
     
     @Bean
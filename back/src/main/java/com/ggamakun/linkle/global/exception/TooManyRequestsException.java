@@ -0,0 +1,14 @@
+package com.ggamakun.linkle.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private final HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -46,7 +46,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
                 member.getMemberId(), member.getEmail(), isNewUser);
             
             // JWT 토큰 생성
-            String accessToken = jwtUtil.createAccessToken(member.getMemberId(), member.getEmail());
+            String accessToken = jwtUtil.createAccessToken(member);
             String refreshToken = jwtUtil.createRefreshToken(member.getMemberId(), member.getEmail());
             
             // Access Token을 HttpOnly Cookie로 설정
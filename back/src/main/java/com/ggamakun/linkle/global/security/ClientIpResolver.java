@@ -0,0 +1,46 @@
+package com.ggamakun.linkle.global.security;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청한 클라이언트 IP 확인 (로그인 시도 제한 키)
+ * - 신뢰하는 프록시(security.trusted-proxies)에서 온 요청만 X-Forwarded-For를 사용
+ * - X-Forwarded-For는 오른쪽(가장 가까운 프록시)부터 보고 신뢰하는 프록시가 아닌 첫 주소를 사용 (클라이언트가 앞쪽 값을 위조해도 무시)
+ * - server.forward-headers-strategy 설정으로 getRemoteAddr()가 이미 치환된 경우에도 그대로 동작
+ */
+@Component
+public class ClientIpResolver {
+
+    private final Set<String> trustedProxies;
+
+    public ClientIpResolver(@Value("${security.trusted-proxies:127.0.0.1,0:0:0:0:0:0:0:1,::1}") String trustedProxies) {
+        this.trustedProxies = Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (!trustedProxies.contains(remoteAddr) || !StringUtils.hasText(forwardedFor)) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (StringUtils.hasText(hop) && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+}
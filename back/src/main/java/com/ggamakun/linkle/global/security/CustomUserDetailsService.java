@@ -15,15 +15,22 @@ import lombok.RequiredArgsConstructor;
 public class CustomUserDetailsService implements UserDetailsService {
     
     private final IMemberRepository memberRepository;
+    private final PrincipalCache principalCache;
     
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Member member = memberRepository.findByEmailForAuth(email);
+        // 캐시에 없으면 DB 조회 (회원이 없으면 캐시에 저장되지 않음)
+        CustomUserDetails userDetails = principalCache.get(email, this::loadFromDatabase);
         
-        if (member == null) {
+        if (userDetails == null) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email);
         }
         
-        return new CustomUserDetails(member);
+        return userDetails;
+    }
+    
+    private CustomUserDetails loadFromDatabase(String email) {
+        Member member = memberRepository.findByEmailForAuth(email);
+        return member != null ? new CustomUserDetails(member) : null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.ggamakun.linkle.global.security;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단일 서버용 Refresh Token 사용 이력 저장소
+ * - 토큰 ID(UUID)를 64bit 값으로 줄여서 키로 사용, 값은 처음 사용 시각과 만료 시각(ms)
+ * - 만료된 항목은 주기적으로 정리
+ */
+@Component
+@Slf4j
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<Long, UsedToken> usedTokens = new ConcurrentHashMap<>();
+    // 처음 사용 후 재사용을 허용하는 시간 (동시 재발급 요청)
+    private final long reuseGraceMillis;
+
+    public InMemoryRefreshTokenStore(@Value("${jwt.refresh-store.reuse-grace-ms:10000}") long reuseGraceMillis) {
+        this.reuseGraceMillis = reuseGraceMillis;
+    }
+
+    @Override
+    public boolean markUsed(String tokenId, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        UsedToken previous = usedTokens.putIfAbsent(toKey(tokenId), new UsedToken(now, expiresAtMillis));
+        return previous == null || now - previous.usedAt() <= reuseGraceMillis;
+    }
+
+    // 만료된 토큰 정리 (만료된 토큰은 서명 검증 단계에서 이미 거부됨)
+    @Scheduled(fixedDelayString = "${jwt.refresh-store.sweep-interval-ms:600000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        int before = usedTokens.size();
+        usedTokens.values().removeIf(used -> used.expiresAt() < now);
+        log.debug("Refresh Token 사용 이력 정리 - {}건 -> {}건", before, usedTokens.size());
+    }
+
+    private long toKey(String tokenId) {
+        UUID uuid = UUID.fromString(tokenId);
+        return uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+    }
+
+    private record UsedToken(long usedAt, long expiresAt) {
+    }
+}
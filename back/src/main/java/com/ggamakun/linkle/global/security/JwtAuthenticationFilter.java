@@ -1,9 +1,11 @@
 package com.ggamakun.linkle.global.security;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,96 +14,125 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 @Component
 @RequiredArgsConstructor
-@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
     
-    // JWT 필터를 적용하지 않을 경로들
-    private static final List<String> EXCLUDED_PATHS = Arrays.asList(
-        "/auth/refresh",
-        "/swagger-ui",
-        "/v3/api-docs",
-        "/h2-console",
-        "/assets",
-        "/css",
-        "/js",
-        "/images",
-        "/favicon.ico"
-    );
+    // 인증 추적 전용 로거 (logback-spring.xml에서 async appender로 연결)
+    private static final Logger authTraceLog = LoggerFactory.getLogger("AUTH_TRACE");
     
+    // 인증 추적 로그 샘플링 비율 (0이면 비활성, AUTH_TRACE 로거가 DEBUG일 때만 기록)
+    @Value("${security.auth-trace.sample-rate:0}")
+    private double traceSampleRate;
+    
+    // JWT 필터를 적용하지 않을 경로들 (SecurityPaths에서 미리 컴파일된 패턴 사용)
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String path = request.getRequestURI();
-        return EXCLUDED_PATHS.stream().anyMatch(path::startsWith);
+        return SecurityPaths.isJwtExcluded(request.getRequestURI());
     }
     
-    
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                     HttpServletResponse response, 
                                     FilterChain filterChain) 
             throws ServletException, IOException {
-    	log.info("[JwtAuthenticationFilter] doFilterInternal called: {}", request.getRequestURI());
-    	log.info("[JWT Filter] 요청 경로: {}", request.getRequestURI());
-    	
-        String token = getTokenFromRequest(request);
-        log.info("[JWT Filter] 추출된 토큰: {}", token != null ? "존재함" : "없음");
+        // 요청 단위 인증 추적 로그는 샘플링된 요청만 한 줄로 기록 (기본 off)
+        boolean traced = isTraceSampled();
+        long startNanos = traced ? System.nanoTime() : 0L;
         
-        if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
-        	boolean isValid = jwtUtil.validateToken(token);
-            log.info("[JWT Filter] 토큰 유효성: {}", isValid);
-            String email = jwtUtil.getEmailFromToken(token);
-            log.info("[JWT Filter] 토큰에서 추출된 이메일: {}", email);
-            
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-            log.info("[JWT Filter] UserDetails 로드 성공: {}", userDetails != null);
-            
-            UsernamePasswordAuthenticationToken authentication = 
-                new UsernamePasswordAuthenticationToken(
-                    userDetails, 
-                    null, 
-                    userDetails.getAuthorities()
-                );
-            
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.info("[JWT Filter] 인증 정보 SecurityContext에 저장 완료");
+        String result = authenticate(request);
+        
+        if (traced) {
+            authTraceLog.debug("[AUTH] {} {} result={} elapsedUs={}", 
+                request.getMethod(), request.getRequestURI(), result, (System.nanoTime() - startNanos) / 1000);
         }
         
         filterChain.doFilter(request, response);
     }
     
+    // 토큰으로 SecurityContext에 인증 정보 저장, 처리 결과 반환
+    private String authenticate(HttpServletRequest request) {
+        String token = getTokenFromRequest(request);
+        if (!StringUtils.hasText(token)) {
+            return "NO_TOKEN";
+        }
+        
+        // 서명 검증은 한 번만 수행하고 Claims를 재사용
+        Claims claims = jwtUtil.parseClaims(token);
+        if (claims == null) {
+            return "INVALID_TOKEN";
+        }
+        
+        // Refresh Token은 /auth/refresh 에서만 사용 (교체된 토큰이 API 인증에 쓰이지 않도록)
+        if (jwtUtil.isRefreshToken(claims)) {
+            return "REFRESH_TOKEN";
+        }
+        
+        // 비밀번호 변경, 탈퇴, Refresh Token 재사용 감지 등으로 폐기된 토큰 (principal 모드와 관계없이 확인)
+        if (jwtUtil.isRevoked(claims)) {
+            return "REVOKED";
+        }
+        
+        UserDetails userDetails = loadUserDetails(claims, claims.get("email", String.class));
+        if (userDetails == null || !userDetails.isEnabled()) {
+            return "REJECTED";
+        }
+        
+        UsernamePasswordAuthenticationToken authentication = 
+            new UsernamePasswordAuthenticationToken(
+                userDetails, 
+                null, 
+                userDetails.getAuthorities()
+            );
+        
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return "AUTHENTICATED";
+    }
+    
+    private boolean isTraceSampled() {
+        return traceSampleRate > 0 
+            && authTraceLog.isDebugEnabled() 
+            && ThreadLocalRandom.current().nextDouble() < traceSampleRate;
+    }
+    
+    // stateless principal 모드면 클레임으로, 아니면 DB(캐시)에서 인증 주체 로드
+    private UserDetails loadUserDetails(Claims claims, String email) {
+        if (jwtUtil.isStatelessPrincipal()) {
+            CustomUserDetails userDetails = jwtUtil.getUserDetailsFromClaims(claims);
+            if (userDetails != null) {
+                return userDetails;
+            }
+            // 주체 정보가 없는 토큰은 DB(캐시)로 조회 (폐기 여부는 앞에서 확인)
+        }
+        return userDetailsService.loadUserByUsername(email);
+    }
+    
     private String getTokenFromRequest(HttpServletRequest request) {
     	// 1. Cookie에서 토큰 추출 시도
-        if (request.getCookies() != null) {
-        	log.info("[JWT Filter] 쿠키 개수: {}", request.getCookies().length);
-            for (Cookie cookie : request.getCookies()) {
-            	log.info("[JWT Filter] 쿠키 이름: {}, 값: {}", cookie.getName(), cookie.getValue().substring(0, Math.min(20, cookie.getValue().length())) + "...");
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
                 if ("accessToken".equals(cookie.getName())) {
-                	log.info("[JWT Filter] accessToken 쿠키 발견");
                     return cookie.getValue();
                 }
             }
-        } else {
-            log.warn("[JWT Filter] 쿠키가 없습니다");
         }
         
         // 2. Authorization 헤더에서 토큰 추출 (하위 호환성)
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-        	log.info("[JWT Filter] Authorization 헤더에서 토큰 추출");
             return bearerToken.substring(7);
         }
         
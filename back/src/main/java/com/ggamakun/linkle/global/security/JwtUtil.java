@@ -1,19 +1,31 @@
 package com.ggamakun.linkle.global.security;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.ggamakun.linkle.domain.member.entity.Member;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
@@ -23,13 +35,32 @@ public class JwtUtil {
     private final SecretKey secretKey;
     private final long accessTokenExpiry;
     private final long refreshTokenExpiry;
+    // 파서는 thread-safe 하므로 한 번만 생성해서 재사용
+    private final JwtParser jwtParser;
+    // 검증이 끝난 토큰(SHA-256 digest) -> Claims, 토큰 만료 시각까지만 보관
+    private final Cache<String, Claims> verifiedTokens;
+    // true면 Access Token에 인증 주체 정보를 담아 필터에서 DB 조회 없이 인증
+    private final boolean statelessPrincipal;
+    private final TokenVersionStore tokenVersionStore;
     
     public JwtUtil(@Value("${jwt.secret}") String secret,
                    @Value("${jwt.access-token-expiry}") long accessTokenExpiry,
-                   @Value("${jwt.refresh-token-expiry}") long refreshTokenExpiry) {
+                   @Value("${jwt.refresh-token-expiry}") long refreshTokenExpiry,
+                   @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize,
+                   @Value("${jwt.stateless-principal:false}") boolean statelessPrincipal,
+                   TokenVersionStore tokenVersionStore) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpiry = accessTokenExpiry;
         this.refreshTokenExpiry = refreshTokenExpiry;
+        this.statelessPrincipal = statelessPrincipal;
+        this.tokenVersionStore = tokenVersionStore;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
     
     // Access Token 생성
@@ -37,9 +68,70 @@ public class JwtUtil {
         return createToken(memberId, email, accessTokenExpiry);
     }
     
-    // Refresh Token 생성
+    // Access Token 생성 (stateless principal 모드면 인증 주체 정보 포함)
+    public String createAccessToken(Member member) {
+        if (!statelessPrincipal) {
+            return createAccessToken(member.getMemberId(), member.getEmail());
+        }
+        
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + accessTokenExpiry);
+        
+        return Jwts.builder()
+                .setSubject(member.getMemberId().toString())
+                .claim("email", member.getEmail())
+                .claim("nickname", member.getNickname())
+                .claim("status", "Y".equals(member.getIsWithdrawn()) ? "WITHDRAWN" : "ACTIVE")
+                .claim("ver", tokenVersionStore.currentVersion(member.getMemberId()))
+                .setIssuedAt(now)
+                .setExpiration(expiryDate)
+                .signWith(secretKey)
+                .compact();
+    }
+    
+    // Refresh Token 생성 (재사용 감지를 위해 토큰 ID와 버전 포함)
     public String createRefreshToken(Integer memberId, String email) {
-        return createToken(memberId, email, refreshTokenExpiry);
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + refreshTokenExpiry);
+        
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(memberId.toString())
+                .claim("email", email)
+                .claim("type", "refresh")
+                .claim("ver", tokenVersionStore.currentVersion(memberId))
+                .setIssuedAt(now)
+                .setExpiration(expiryDate)
+                .signWith(secretKey)
+                .compact();
+    }
+    
+    // Refresh Token 검증 (서명, 만료, 타입, 버전), 유효하지 않으면 null
+    public Claims parseRefreshToken(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null || !isRefreshToken(claims) || claims.getId() == null) {
+            return null;
+        }
+        
+        Long version = claims.get("ver", Long.class);
+        if (version == null || !tokenVersionStore.isCurrent(Integer.valueOf(claims.getSubject()), version)) {
+            return null;
+        }
+        return claims;
+    }
+    
+    // 폐기된 토큰인지 (ver 클레임 기준, ver가 없는 이전 토큰은 발급 시각 기준)
+    public boolean isRevoked(Claims claims) {
+        Long version = claims.get("ver", Long.class);
+        if (version == null) {
+            version = claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime();
+        }
+        return !tokenVersionStore.isCurrent(Integer.valueOf(claims.getSubject()), version);
+    }
+    
+    // Refresh Token인지 (type 클레임)
+    public boolean isRefreshToken(Claims claims) {
+        return "refresh".equals(claims.get("type", String.class));
     }
     
     // 토큰 생성
@@ -50,6 +142,7 @@ public class JwtUtil {
         return Jwts.builder()
                 .setSubject(memberId.toString())
                 .claim("email", email)
+                .claim("ver", tokenVersionStore.currentVersion(memberId))
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(secretKey)
@@ -66,11 +159,46 @@ public class JwtUtil {
         return getClaimsFromToken(token).get("email", String.class);
     }
     
+    public boolean isStatelessPrincipal() {
+        return statelessPrincipal;
+    }
+    
+    // 토큰 클레임으로 인증 주체 생성 (DB 조회 없음)
+    // 주체 정보가 없거나 폐기된 토큰이면 null
+    public CustomUserDetails getUserDetailsFromClaims(Claims claims) {
+        Long version = claims.get("ver", Long.class);
+        String status = claims.get("status", String.class);
+        if (version == null || status == null) {
+            return null;
+        }
+        
+        Integer memberId = Integer.valueOf(claims.getSubject());
+        if (!tokenVersionStore.isCurrent(memberId, version)) {
+            log.info("폐기된 토큰 - Member ID: {}", memberId);
+            return null;
+        }
+        
+        String withdrawn = "ACTIVE".equals(status) ? "N" : "Y";
+        Member member = Member.builder()
+                .memberId(memberId)
+                .email(claims.get("email", String.class))
+                .nickname(claims.get("nickname", String.class))
+                .isWithdrawn(withdrawn)
+                .isDeleted(withdrawn)
+                .build();
+        
+        return new CustomUserDetails(member);
+    }
+    
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+    
+    // 토큰을 한 번만 검증해서 Claims 반환 (유효하지 않으면 null)
+    public Claims parseClaims(String token) {
         try {
-            getClaimsFromToken(token);
-            return true;
+            return getClaimsFromToken(token);
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -80,15 +208,55 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
     
-    // Claims 추출
+    // Claims 추출 (검증된 토큰 캐시 우선)
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT string is empty");
+        }
+        
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+    
+    private String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    // 캐시 항목은 토큰의 exp 시각에 만료
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+        
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
\ No newline at end of file
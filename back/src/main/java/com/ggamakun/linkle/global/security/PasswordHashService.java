@@ -0,0 +1,151 @@
+package com.ggamakun.linkle.global.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.global.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기
+ * - 해시 연산은 크기가 제한된 전용 스레드 풀에서 실행, 큐가 가득 차면 즉시 거절
+ * - 로그인은 이메일/IP별 분당 시도 횟수로 추가 제한 (성공하면 해당 시도는 제외)
+ * - 큐 길이, 활성 스레드 수는 password.hashing 메트릭으로 노출
+ */
+@Component
+@Slf4j
+public class PasswordHashService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerIp;
+    // 키(이메일 또는 IP) -> 최근 1분간 로그인 시도 횟수
+    private final Cache<String, AtomicInteger> loginAttempts;
+
+    public PasswordHashService(PasswordEncoder passwordEncoder,
+                               MeterRegistry meterRegistry,
+                               @Value("${security.password-hash.threads:0}") int threads,
+                               @Value("${security.password-hash.queue-size:64}") int queueSize,
+                               @Value("${security.password-hash.timeout-ms:5000}") long timeoutMillis,
+                               @Value("${security.login.max-attempts-per-email:10}") int maxAttemptsPerEmail,
+                               @Value("${security.login.max-attempts-per-ip:30}") int maxAttemptsPerIp) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+
+        // 기본 스레드 수는 CPU 코어 수의 절반 (나머지 코어는 일반 API 처리용)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+
+        this.loginAttempts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    // 비밀번호 암호화
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 비밀번호 확인
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 현재 설정된 cost보다 낮은 cost로 저장된 해시인지 확인
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 로그인 시도 허용 여부 확인 (이메일/IP별 분당 횟수 제한)
+    public void checkLoginAllowed(String email, String clientIp) {
+        // 두 카운터 모두 증가시켜야 성공 시 IP 카운터에서 정확히 되돌릴 수 있음
+        boolean emailExceeded = exceeds(emailKey(email), maxAttemptsPerEmail);
+        boolean ipExceeded = exceeds(ipKey(clientIp), maxAttemptsPerIp);
+        if (emailExceeded || ipExceeded) {
+            log.warn("로그인 시도 제한 초과 - Email: {}, IP: {}", email, clientIp);
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 로그인 성공 시 이메일 시도 횟수 초기화, IP 시도 횟수에서도 이번 시도는 제외 (실패만 제한)
+    public void loginSucceeded(String email, String clientIp) {
+        loginAttempts.invalidate(emailKey(email));
+        AtomicInteger ipAttempts = loginAttempts.getIfPresent(ipKey(clientIp));
+        if (ipAttempts != null) {
+            ipAttempts.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+
+    private boolean exceeds(String key, int maxAttempts) {
+        return loginAttempts.get(key, k -> new AtomicInteger()).incrementAndGet() > maxAttempts;
+    }
+
+    // 이메일은 대소문자/공백 차이로 제한을 피하지 않도록 정규화
+    private String emailKey(String email) {
+        return "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해시 큐 포화 - 대기: {}", executor.getQueue().size());
+            throw new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 처리 실패", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ggamakun.linkle.global.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ggamakun.linkle.global.util.AfterCommit;
+import com.ggamakun.linkle.global.util.LoadGuard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 필터에서 사용하는 인증 주체(CustomUserDetails) 캐시
+ * - 이메일 기준으로 저장, 회원 정보 변경 시 이메일로 무효화
+ * - 적중/실패 수는 principal.cache 메트릭으로 노출
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final Cache<String, CustomUserDetails> cache;
+    // 로드 중에 무효화된 회원은 캐시에 남기지 않음
+    private final LoadGuard loadGuard = new LoadGuard();
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal.cache");
+    }
+
+    // 캐시 조회, 없으면 loader로 로드 후 저장 (로드는 캐시 compute 밖에서)
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        return loadGuard.get(cache, email, loader);
+    }
+
+    // 이메일로 무효화 (트랜잭션 중이면 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있어 완료 후 한 번 더)
+    public void evict(String email) {
+        if (email != null) {
+            AfterCommit.nowAndAfterCompletion(() -> {
+                loadGuard.markChanged(email);
+                cache.invalidate(email);
+            });
+        }
+    }
+}
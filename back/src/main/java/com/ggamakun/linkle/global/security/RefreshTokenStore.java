@@ -0,0 +1,16 @@
+package com.ggamakun.linkle.global.security;
+
+/**
+ * Refresh Token 사용 이력 저장소
+ * - 한 번 사용된(교체된) Refresh Token을 만료 시각까지 기억해서 재사용을 감지
+ * - 여러 서버에서 공유해야 하면 이 인터페이스를 구현한 공용 저장소로 교체
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 토큰을 사용 처리
+     * - 여러 탭에서 같은 토큰으로 동시에 재발급하는 경우를 위해 처음 사용 후 짧은 유예 시간 안의 재사용은 허용
+     * @return 처음 사용되었거나 유예 시간 안에 다시 사용된 토큰이면 true, 그 외 재사용이면 false
+     */
+    boolean markUsed(String tokenId, long expiresAtMillis);
+}
@@ -0,0 +1,61 @@
+package com.ggamakun.linkle.global.security;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * SecurityConfig와 JwtAuthenticationFilter가 함께 사용하는 경로 목록
+ */
+public final class SecurityPaths {
+
+    // 보안 필터 체인을 아예 거치지 않는 정적 리소스
+    public static final String[] STATIC_RESOURCES = {
+        "/assets/**",
+        "/css/**",
+        "/js/**",
+        "/images/**",
+        "/favicon.ico"
+    };
+
+    // Swagger 문서
+    public static final String[] API_DOCS = {
+        "/swagger-ui/**",
+        "/swagger-ui.html",
+        "/swagger-resources/**",
+        "/v3/api-docs/**"
+    };
+
+    // JWT 필터를 적용하지 않는 경로 (정적 리소스, 문서 포함)
+    private static final String[] JWT_EXCLUDED = {
+        "/auth/refresh",
+        "/h2-console/**"
+    };
+
+    // 서버 시작 시 한 번만 컴파일
+    private static final List<PathPattern> JWT_EXCLUDED_PATTERNS = compile(JWT_EXCLUDED, STATIC_RESOURCES, API_DOCS);
+
+    private SecurityPaths() {
+    }
+
+    // JWT 필터 제외 경로인지 확인
+    public static boolean isJwtExcluded(String requestUri) {
+        PathContainer path = PathContainer.parsePath(requestUri);
+        for (PathPattern pattern : JWT_EXCLUDED_PATTERNS) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PathPattern> compile(String[]... groups) {
+        return Arrays.stream(groups)
+                .flatMap(Arrays::stream)
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ggamakun.linkle.global.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 토큰 버전 저장소 (Access/Refresh Token 폐기 확인용, JwtAuthenticationFilter에서 매 요청 확인)
+ * - 버전은 마지막 폐기 시각(ms), 폐기 이력이 없으면 0
+ * - 토큰의 ver 클레임이 현재 버전보다 작으면 폐기된 토큰
+ */
+@Component
+public class TokenVersionStore {
+
+    private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+
+    // 현재 토큰 버전
+    public long currentVersion(Integer memberId) {
+        return versions.getOrDefault(memberId, 0L);
+    }
+
+    // 토큰 버전이 유효한지 확인
+    public boolean isCurrent(Integer memberId, long tokenVersion) {
+        return tokenVersion >= currentVersion(memberId);
+    }
+
+    // 이전에 발급된 토큰을 모두 폐기
+    public void revoke(Integer memberId) {
+        if (memberId != null) {
+            versions.merge(memberId, System.currentTimeMillis(), (oldVersion, now) -> Math.max(oldVersion + 1, now));
+        }
+    }
+}
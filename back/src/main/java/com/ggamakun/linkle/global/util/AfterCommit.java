@@ -0,0 +1,42 @@
+package com.ggamakun.linkle.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 완료 시점에 실행할 작업 등록 (캐시 반영/무효화, 비동기 작업 시작 등)
+ * - 트랜잭션 밖에서 호출하면 바로 실행
+ */
+public final class AfterCommit {
+
+	private AfterCommit() {
+	}
+
+	// 커밋 후 실행 (롤백되면 실행하지 않음)
+	public static void run(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	// 지금 실행하고, 트랜잭션 중이면 완료(커밋/롤백) 후 한 번 더 실행
+	// 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있는 무효화에 사용
+	public static void nowAndAfterCompletion(Runnable eviction) {
+		eviction.run();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					eviction.run();
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.ggamakun.linkle.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * 캐시 로드를 compute 밖에서 실행 (캐시 맵 잠금을 잡은 채 JDBC 대기하지 않도록)
+ * - 변경/무효화 직전에 markChanged로 시각을 남기고, 로드 중에 변경이 있었으면 넣은 값을 다시 뺌
+ * - 시각은 키를 구간으로 나눠 기록 (같은 구간의 다른 키 변경도 변경으로 봄)
+ * - 로드한 값은 캐시에 남지 않아도 이번 호출에는 반환
+ */
+public final class LoadGuard {
+
+	private final AtomicLongArray changedAt;
+
+	public LoadGuard() {
+		this(1024);
+	}
+
+	public LoadGuard(int stripes) {
+		this.changedAt = new AtomicLongArray(stripes);
+	}
+
+	// 키 변경 시각 기록 (캐시 반영/무효화보다 먼저 호출), 기록한 시각 반환
+	public long markChanged(Object key) {
+		long now = System.nanoTime();
+		changedAt.accumulateAndGet(stripe(key), now, Math::max);
+		return now;
+	}
+
+	// 전체 키 변경 (여러 키를 한 번에 무효화할 때)
+	public void markAllChanged() {
+		long now = System.nanoTime();
+		for (int i = 0; i < changedAt.length(); i++) {
+			changedAt.accumulateAndGet(i, now, Math::max);
+		}
+	}
+
+	public <K, V> V get(Cache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+		return get(cache, key, loader, value -> {
+		});
+	}
+
+	// discarded: 먼저 들어간 값이 있어 캐시에 넣지 못한 로드 값 정리
+	public <K, V> V get(Cache<K, V> cache, K key, Function<? super K, ? extends V> loader, Consumer<? super V> discarded) {
+		V cached = cache.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+		long loadStartedAt = System.nanoTime();
+		V loaded = loader.apply(key);
+		if (loaded == null) {
+			return null;
+		}
+		V existing = cache.asMap().putIfAbsent(key, loaded);
+		if (existing != null) {
+			discarded.accept(loaded);
+			return existing;
+		}
+		// 로드 중의 변경은 캐시에 값이 없어 반영되지 않았으므로 넣은 값을 다시 뺌
+		if (changedAt.get(stripe(key)) >= loadStartedAt) {
+			cache.asMap().remove(key, loaded);
+		}
+		return loaded;
+	}
+
+	private int stripe(Object key) {
+		return Math.floorMod(key.hashCode(), changedAt.length());
+	}
+}
@@ -0,0 +1,6 @@
+-- 댓글 목록 페이지 조회용 인덱스
+-- 최상위 댓글: post_id + parent_comment_id IS NULL 조건에서 comment_id 순 범위 조회
+CREATE INDEX IDX_COMMENTS_POST_PARENT ON COMMENTS (POST_ID, PARENT_COMMENT_ID, COMMENT_ID);
+
+-- 대댓글 미리보기/더보기: parent_comment_id별 comment_id 순 범위 조회
+CREATE INDEX IDX_COMMENTS_PARENT ON COMMENTS (PARENT_COMMENT_ID, COMMENT_ID);
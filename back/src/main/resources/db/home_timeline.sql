@@ -0,0 +1,14 @@
+-- 회원별 홈 타임라인 (가입 동호회의 새 글 ID, 회원 ID로 묶인 IOT)
+CREATE TABLE HOME_TIMELINE (
+    MEMBER_ID   NUMBER  NOT NULL,
+    POST_ID     NUMBER  NOT NULL,
+    CLUB_ID     NUMBER  NOT NULL,
+    CREATED_AT  DATE    DEFAULT SYSDATE NOT NULL,
+    CONSTRAINT PK_HOME_TIMELINE PRIMARY KEY (MEMBER_ID, POST_ID)
+) ORGANIZATION INDEX COMPRESS 1;
+
+-- 보관 기간 지난 항목 정리
+CREATE INDEX IDX_HOME_TIMELINE_CREATED ON HOME_TIMELINE (CREATED_AT);
+
+-- 대형 동호회 글 직접 조회 (fan-out-on-read)
+CREATE INDEX IDX_POST_CLUB_POST_ID ON POST (CLUB_ID, POST_ID DESC);
@@ -0,0 +1,5 @@
+-- 합치기 대상 알림 종류 (NotificationKind, 없으면 합치지 않음)
+ALTER TABLE NOTIFICATION ADD KIND VARCHAR2(30);
+
+-- 합칠 알림 조회 (수신자, 링크, 종류별 읽지 않은 알림)
+CREATE INDEX IDX_NOTIFICATION_COALESCE ON NOTIFICATION (RECEIVER_ID, KIND, LINK_URL, IS_READ);
@@ -0,0 +1,5 @@
+-- 알림함 커서 페이지 조회 (receiver_id, sent_at DESC, notification_id DESC)
+CREATE INDEX IDX_NOTIFICATION_RECEIVER_SENT ON NOTIFICATION (RECEIVER_ID, SENT_AT DESC, NOTIFICATION_ID DESC);
+
+-- 읽지 않은 알림 수 집계
+CREATE INDEX IDX_NOTIFICATION_RECEIVER_UNREAD ON NOTIFICATION (RECEIVER_ID, IS_READ, IS_DELETED);
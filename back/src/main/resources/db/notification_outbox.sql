@@ -0,0 +1,13 @@
+-- 알림 웹소켓 전송 대기열 (NOTIFICATION과 같은 트랜잭션에서 저장, NotificationOutboxRelay가 전송 후 삭제)
+CREATE TABLE NOTIFICATION_OUTBOX (
+    NOTIFICATION_ID  NUMBER        NOT NULL,
+    RECEIVER_ID      NUMBER        NOT NULL,
+    STATUS           VARCHAR2(10)  DEFAULT 'PENDING' NOT NULL,
+    ATTEMPTS         NUMBER        DEFAULT 0 NOT NULL,
+    NEXT_ATTEMPT_AT  DATE          DEFAULT SYSDATE NOT NULL,
+    CREATED_AT       DATE          DEFAULT SYSDATE NOT NULL,
+    CONSTRAINT PK_NOTIFICATION_OUTBOX PRIMARY KEY (NOTIFICATION_ID),
+    CONSTRAINT CK_NOTIFICATION_OUTBOX_STATUS CHECK (STATUS IN ('PENDING', 'FAILED'))
+);
+
+CREATE INDEX IDX_NOTIFICATION_OUTBOX_PENDING ON NOTIFICATION_OUTBOX (STATUS, NEXT_ATTEMPT_AT);
@@ -0,0 +1,14 @@
+-- 같은 알림을 하나로 합친 경우 합쳐진 알림 수
+ALTER TABLE NOTIFICATION ADD DIGEST_COUNT NUMBER DEFAULT 1 NOT NULL;
+
+-- 오래된 읽은 알림 보관 테이블 (NOTIFICATION 컬럼 타입을 그대로 사용, 조회/수정용 컬럼 제외)
+CREATE TABLE NOTIFICATION_ARCHIVE COMPRESS AS
+SELECT NOTIFICATION_ID, RECEIVER_ID, TITLE, CONTENT, LINK_URL, DIGEST_COUNT, SENT_AT, READ_AT, SYSDATE AS ARCHIVED_AT
+FROM NOTIFICATION
+WHERE 1 = 0;
+
+ALTER TABLE NOTIFICATION_ARCHIVE ADD CONSTRAINT PK_NOTIFICATION_ARCHIVE PRIMARY KEY (NOTIFICATION_ID);
+CREATE INDEX IDX_NOTIFICATION_ARCHIVE_RECEIVER ON NOTIFICATION_ARCHIVE (RECEIVER_ID, SENT_AT);
+
+-- 보관/정리 대상 조회
+CREATE INDEX IDX_NOTIFICATION_RETENTION ON NOTIFICATION (IS_DELETED, IS_READ, SENT_AT);
@@ -0,0 +1,7 @@
+-- 커뮤니티 피드 커서 페이지 조회 (전체 / 동호회별)
+CREATE INDEX IDX_POST_FEED ON POST (POST_TYPE, IS_DELETED, CREATED_AT DESC, POST_ID DESC);
+CREATE INDEX IDX_POST_CLUB_FEED ON POST (CLUB_ID, POST_TYPE, IS_DELETED, CREATED_AT DESC, POST_ID DESC);
+
+-- 카테고리 필터 (상위 카테고리로 조회)
+CREATE INDEX IDX_CATEGORY_PARENT ON CATEGORY (PARENT_CATEGORY_ID);
+CREATE INDEX IDX_CLUB_CATEGORY ON CLUB (CATEGORY_ID);
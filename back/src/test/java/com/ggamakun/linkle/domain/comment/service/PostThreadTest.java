@@ -0,0 +1,162 @@
+package com.ggamakun.linkle.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ggamakun.linkle.domain.comment.dto.CommentDto;
+import com.ggamakun.linkle.domain.comment.service.CommentThreadCache.PostThread;
+
+class PostThreadTest {
+
+	private static final int WINDOW_SIZE = 3;
+	private static final int PREVIEW_SIZE = 3;
+
+	@Test
+	void addTopLevelKeepsCommentIdOrder() {
+		PostThread thread = thread(true, comment(1, null), comment(5, null));
+
+		// 커밋 순서가 바뀌어 큰 ID가 먼저 반영되어도 comment_id 순으로 들어감
+		thread.addTopLevel(comment(4, null), 10);
+		thread.addTopLevel(comment(2, null), 10);
+
+		assertThat(ids(thread.copy(10))).containsExactly(1, 2, 4, 5);
+		assertThat(thread.contains(2)).isTrue();
+	}
+
+	@Test
+	void addReplyKeepsOrderAndCountsBeyondPreview() {
+		CommentDto parent = comment(1, null, comment(10, 1));
+		parent.setCommentCount(1);
+		PostThread thread = thread(true, parent);
+
+		thread.addReply(comment(12, 1), PREVIEW_SIZE);
+		thread.addReply(comment(11, 1), PREVIEW_SIZE);
+		// 미리보기가 가득 차면 수만 늘리고 더보기 표시
+		thread.addReply(comment(13, 1), PREVIEW_SIZE);
+
+		CommentDto copied = thread.copy(1).get(0);
+		assertThat(ids(copied.getReplies())).containsExactly(10, 11, 12);
+		assertThat(copied.getCommentCount()).isEqualTo(4);
+		assertThat(copied.getHasMoreReplies()).isTrue();
+		assertThat(thread.contains(13)).isFalse();
+	}
+
+	@Test
+	void incompleteWindowCannotServeLargerPage() {
+		PostThread thread = thread(false, comment(1, null), comment(2, null));
+
+		assertThat(ids(thread.copy(2))).containsExactly(1, 2);
+		assertThat(thread.copy(3)).isNull();
+
+		// 범위 밖 댓글이 있을 수 있어 새 댓글은 추가하지 않음
+		thread.addTopLevel(comment(3, null), WINDOW_SIZE);
+		assertThat(thread.copy(3)).isNull();
+		assertThat(thread.contains(3)).isFalse();
+	}
+
+	@Test
+	void completeWindowServesShortPageUntilFull() {
+		PostThread thread = thread(true, comment(1, null), comment(2, null));
+
+		assertThat(ids(thread.copy(5))).containsExactly(1, 2);
+
+		thread.addTopLevel(comment(3, null), WINDOW_SIZE);
+		assertThat(ids(thread.copy(5))).containsExactly(1, 2, 3);
+
+		// 창이 가득 찬 뒤 추가되면 더 이상 전체가 아님
+		thread.addTopLevel(comment(4, null), WINDOW_SIZE);
+		assertThat(thread.copy(5)).isNull();
+		assertThat(ids(thread.copy(3))).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	void removedPreviewReplyIsRefilled() {
+		CommentDto parent = comment(1, null, comment(10, 1), comment(11, 1), comment(12, 1));
+		parent.setCommentCount(4);
+		parent.setHasMoreReplies(true);
+		PostThread thread = thread(true, parent);
+
+		assertThat(thread.removeReply(parent, 11)).isTrue();
+		assertThat(parent.getCommentCount()).isEqualTo(3);
+		assertThat(parent.getHasMoreReplies()).isTrue();
+
+		thread.replacePreview(parent, List.of(comment(10, 1), comment(12, 1), comment(13, 1)), PREVIEW_SIZE);
+
+		CommentDto copied = thread.copy(1).get(0);
+		assertThat(ids(copied.getReplies())).containsExactly(10, 12, 13);
+		assertThat(copied.getHasMoreReplies()).isFalse();
+		assertThat(thread.contains(11)).isFalse();
+		assertThat(thread.contains(13)).isTrue();
+	}
+
+	@Test
+	void removedReplyOutsidePreviewOnlyChangesCount() {
+		CommentDto parent = comment(1, null, comment(10, 1), comment(11, 1), comment(12, 1));
+		parent.setCommentCount(5);
+		parent.setHasMoreReplies(true);
+		PostThread thread = thread(true, parent);
+
+		assertThat(thread.removeReply(parent, 20)).isFalse();
+		assertThat(parent.getCommentCount()).isEqualTo(4);
+		assertThat(parent.getHasMoreReplies()).isTrue();
+		assertThat(ids(parent.getReplies())).containsExactly(10, 11, 12);
+	}
+
+	@Test
+	void replyCountChangesOnlyOncePerReply() {
+		CommentDto parent = comment(1, null, comment(10, 1), comment(11, 1), comment(12, 1));
+		parent.setCommentCount(5);
+		parent.setHasMoreReplies(true);
+		PostThread thread = thread(true, parent);
+
+		// 미리보기 밖 대댓글이 두 번 반영되어도 수는 한 번만 바뀜
+		thread.addReply(comment(20, 1), PREVIEW_SIZE);
+		thread.addReply(comment(20, 1), PREVIEW_SIZE);
+		assertThat(parent.getCommentCount()).isEqualTo(6);
+
+		assertThat(thread.removeReply(parent, 21)).isFalse();
+		assertThat(thread.removeReply(parent, 21)).isFalse();
+		assertThat(parent.getCommentCount()).isEqualTo(5);
+
+		// 이미 삭제 반영된 대댓글의 늦은 등록 반영은 무시
+		thread.addReply(comment(21, 1), PREVIEW_SIZE);
+		assertThat(parent.getCommentCount()).isEqualTo(5);
+	}
+
+	@Test
+	void copyDoesNotShareCachedComments() {
+		PostThread thread = thread(true, comment(1, null, comment(10, 1)));
+
+		CommentDto copied = thread.copy(1).get(0);
+		copied.setContent("changed");
+		copied.getReplies().clear();
+
+		CommentDto again = thread.copy(1).get(0);
+		assertThat(again.getContent()).isEqualTo("comment 1");
+		assertThat(ids(again.getReplies())).containsExactly(10);
+	}
+
+	private static PostThread thread(boolean complete, CommentDto... comments) {
+		return new PostThread(List.of(comments), complete, 0L, 0L);
+	}
+
+	private static CommentDto comment(int commentId, Integer parentCommentId, CommentDto... replies) {
+		CommentDto comment = new CommentDto();
+		comment.setCommentId(commentId);
+		comment.setParentCommentId(parentCommentId);
+		comment.setContent("comment " + commentId);
+		comment.setIsDeleted("N");
+		comment.setCommentCount(replies.length);
+		comment.setHasMoreReplies(false);
+		comment.setReplies(new ArrayList<>(List.of(replies)));
+		return comment;
+	}
+
+	private static List<Integer> ids(List<CommentDto> comments) {
+		return comments.stream().map(CommentDto::getCommentId).toList();
+	}
+}
@@ -0,0 +1,62 @@
+package com.ggamakun.linkle.domain.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ggamakun.linkle.domain.feed.dto.HomeFeedItem;
+import com.ggamakun.linkle.domain.feed.repository.IFeedRepository;
+import com.ggamakun.linkle.domain.like.service.LikeCounterEngine;
+import com.ggamakun.linkle.domain.post.service.ViewCountBuffer;
+
+class FeedServiceTest {
+
+	private static final Integer MEMBER_ID = 1;
+
+	private final IFeedRepository feedRepository = mock(IFeedRepository.class);
+	private final HomeTimeline homeTimeline = mock(HomeTimeline.class);
+	private final FeedService feedService = new FeedService(feedRepository, homeTimeline,
+			mock(LikeCounterEngine.class), mock(ViewCountBuffer.class), 50, 300, 30, 5000);
+
+	@Test
+	void dropsAreFilledFromTheNextRange() {
+		when(homeTimeline.largeClubIds(MEMBER_ID)).thenReturn(List.of());
+		when(homeTimeline.page(MEMBER_ID, null, 3)).thenReturn(List.of(10, 9, 8));
+		when(homeTimeline.page(MEMBER_ID, 8, 3)).thenReturn(List.of(7, 6, 5));
+		// 9, 8은 삭제된 글
+		when(feedRepository.findFeedItems(eq(MEMBER_ID), eq(List.of(10, 9, 8)), anyInt())).thenReturn(items(10));
+		when(feedRepository.findFeedItems(eq(MEMBER_ID), eq(List.of(7, 6, 5)), anyInt())).thenReturn(items(7, 6, 5));
+
+		List<HomeFeedItem> page = feedService.getHomeFeed(MEMBER_ID, 3, null);
+
+		assertThat(page).extracting(HomeFeedItem::getPostId).containsExactly(10, 7, 6);
+	}
+
+	@Test
+	void stopsWhenSourcesAreExhausted() {
+		when(homeTimeline.largeClubIds(MEMBER_ID)).thenReturn(List.of(100));
+		when(homeTimeline.page(MEMBER_ID, null, 3)).thenReturn(List.of(10));
+		when(feedRepository.findClubPostIds(List.of(100), 3, null)).thenReturn(List.of(11));
+		when(feedRepository.findFeedItems(eq(MEMBER_ID), anyList(), anyInt())).thenReturn(items(11));
+
+		List<HomeFeedItem> page = feedService.getHomeFeed(MEMBER_ID, 3, null);
+
+		assertThat(page).extracting(HomeFeedItem::getPostId).containsExactly(11);
+	}
+
+	private static List<HomeFeedItem> items(Integer... postIds) {
+		return Arrays.stream(postIds).map(postId -> {
+			HomeFeedItem item = new HomeFeedItem();
+			item.setPostId(postId);
+			return item;
+		}).toList();
+	}
+}
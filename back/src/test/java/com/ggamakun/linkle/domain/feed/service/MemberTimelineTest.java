@@ -0,0 +1,61 @@
+package com.ggamakun.linkle.domain.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.ggamakun.linkle.domain.feed.service.HomeTimeline.MemberTimeline;
+
+class MemberTimelineTest {
+
+	@Test
+	void completeBufferPagesByCursorToTheEnd() {
+		MemberTimeline timeline = timeline(5, true, 1, 2, 3, 4);
+
+		assertThat(timeline.page(null, 2)).containsExactly(4, 3);
+		assertThat(timeline.page(3, 2)).containsExactly(2, 1);
+		// 전체를 담고 있으면 마지막 페이지는 짧거나 비어 있어도 응답
+		assertThat(timeline.page(2, 2)).containsExactly(1);
+		assertThat(timeline.page(1, 2)).isEmpty();
+	}
+
+	@Test
+	void ringWrapOverwritesOldestAndMarksIncomplete() {
+		MemberTimeline timeline = timeline(3, true, 1, 2, 3);
+		assertThat(timeline.page(null, 10)).containsExactly(3, 2, 1);
+
+		timeline.add(4);
+
+		assertThat(timeline.page(null, 3)).containsExactly(4, 3, 2);
+		// 덮어쓴 뒤에는 버퍼 밖 글이 있으므로 모자란 페이지는 DB로
+		assertThat(timeline.page(null, 4)).isNull();
+		assertThat(timeline.page(3, 2)).isNull();
+		assertThat(timeline.page(4, 1)).containsExactly(3);
+	}
+
+	@Test
+	void incompleteLoadNeverAnswersShortPage() {
+		MemberTimeline timeline = timeline(5, false, 1, 2);
+
+		assertThat(timeline.page(null, 2)).containsExactly(2, 1);
+		assertThat(timeline.page(null, 3)).isNull();
+	}
+
+	@Test
+	void outOfOrderAndDuplicateIdsAreSortedOnce() {
+		MemberTimeline timeline = timeline(10, true, 5, 7, 6, 7);
+
+		assertThat(timeline.page(null, 10)).containsExactly(7, 6, 5);
+	}
+
+	private static MemberTimeline timeline(int capacity, boolean complete, int... postIds) {
+		MemberTimeline timeline = new MemberTimeline(capacity, Set.of(1), List.of(), complete);
+		for (int postId : postIds) {
+			timeline.add(postId);
+		}
+		return timeline;
+	}
+}
@@ -0,0 +1,70 @@
+package com.ggamakun.linkle.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.ggamakun.linkle.domain.post.dto.PostDetail;
+import com.ggamakun.linkle.domain.post.repository.IPostRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PostDetailCacheTest {
+
+	private static final Integer POST_ID = 7;
+
+	private final IPostRepository postRepository = mock(IPostRepository.class);
+	private final PostDetailCache cache = new PostDetailCache(postRepository, new SimpleMeterRegistry(), 100, 300);
+
+	@Test
+	void snapshotLoadedBeforeFlushGetsFlushedViews() {
+		when(postRepository.findPostDetail(POST_ID)).thenReturn(detail(100));
+		cache.get(POST_ID);
+		long startedAt = System.nanoTime();
+
+		cache.applyViews(List.of(Map.entry(POST_ID, 3L)), startedAt, System.nanoTime());
+
+		assertThat(cache.get(POST_ID).getViewCount()).isEqualTo(103);
+		verify(postRepository, times(1)).findPostDetail(POST_ID);
+	}
+
+	@Test
+	void snapshotLoadedDuringFlushIsEvicted() {
+		long startedAt = System.nanoTime();
+		when(postRepository.findPostDetail(POST_ID)).thenReturn(detail(103));
+		cache.get(POST_ID);
+
+		cache.applyViews(List.of(Map.entry(POST_ID, 3L)), startedAt, System.nanoTime());
+
+		// 반영 여부를 알 수 없으므로 더하지 않고 다시 로드
+		assertThat(cache.get(POST_ID).getViewCount()).isEqualTo(103);
+		verify(postRepository, times(2)).findPostDetail(POST_ID);
+	}
+
+	@Test
+	void snapshotLoadedAfterCommitIsKept() {
+		long startedAt = System.nanoTime();
+		long committedAt = System.nanoTime();
+		when(postRepository.findPostDetail(POST_ID)).thenReturn(detail(103));
+		cache.get(POST_ID);
+
+		cache.applyViews(List.of(Map.entry(POST_ID, 3L)), startedAt, committedAt);
+
+		assertThat(cache.get(POST_ID).getViewCount()).isEqualTo(103);
+		verify(postRepository, times(1)).findPostDetail(POST_ID);
+	}
+
+	private static PostDetail detail(int viewCount) {
+		PostDetail detail = new PostDetail();
+		detail.setPostId(POST_ID);
+		detail.setViewCount(viewCount);
+		return detail;
+	}
+}
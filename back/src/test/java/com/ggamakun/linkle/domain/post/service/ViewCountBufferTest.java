@@ -0,0 +1,107 @@
+package com.ggamakun.linkle.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ggamakun.linkle.domain.post.repository.IPostRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ViewCountBufferTest {
+
+	private static final Integer POST_ID = 7;
+	private static final int DB_COUNT = 100;
+
+	private final SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class);
+	private final SqlSession session = mock(SqlSession.class);
+	private final IPostRepository mapper = mock(IPostRepository.class);
+	private final PostDetailCache postDetailCache = mock(PostDetailCache.class);
+	private ViewCountBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		when(sqlSessionFactory.openSession(ExecutorType.BATCH, false)).thenReturn(session);
+		when(session.getMapper(IPostRepository.class)).thenReturn(mapper);
+		buffer = new ViewCountBuffer(sqlSessionFactory, postDetailCache, new SimpleMeterRegistry(), 500, 30, 1000);
+	}
+
+	@Test
+	void countStaysVisibleWhileFlushIsCommitting() {
+		buffer.recordView(POST_ID, 1);
+		buffer.recordView(POST_ID, 2);
+		List<Integer> seen = new ArrayList<>();
+		// 아직 커밋 전이므로 DB 값은 그대로
+		doAnswer(invocation -> {
+			seen.add(buffer.withPending(POST_ID, DB_COUNT));
+			return 1;
+		}).when(mapper).addViewCount(POST_ID, 2L);
+		doAnswer(invocation -> {
+			seen.add(buffer.withPending(POST_ID, DB_COUNT));
+			return null;
+		}).when(session).commit();
+
+		buffer.flush();
+
+		assertThat(seen).containsExactly(DB_COUNT + 2, DB_COUNT + 2);
+		// 커밋 후에는 DB 값에 포함되므로 더하지 않음
+		assertThat(buffer.withPending(POST_ID, DB_COUNT + 2)).isEqualTo(DB_COUNT + 2);
+		verify(postDetailCache).applyViews(anyList(), anyLong(), anyLong());
+	}
+
+	@Test
+	void viewsDuringFlushAreAddedOnTop() {
+		buffer.recordView(POST_ID, 1);
+		doAnswer(invocation -> {
+			buffer.recordView(POST_ID, 2);
+			return 1;
+		}).when(mapper).addViewCount(POST_ID, 1L);
+
+		buffer.flush();
+
+		assertThat(buffer.withPending(POST_ID, DB_COUNT + 1)).isEqualTo(DB_COUNT + 2);
+	}
+
+	@Test
+	void failedFlushKeepsCountAndRetries() {
+		buffer.recordView(POST_ID, 1);
+		doThrow(new RuntimeException("commit failed")).when(session).commit();
+
+		buffer.flush();
+
+		assertThat(buffer.withPending(POST_ID, DB_COUNT)).isEqualTo(DB_COUNT + 1);
+		verify(postDetailCache, never()).applyViews(anyList(), anyLong(), anyLong());
+
+		doAnswer(invocation -> null).when(session).commit();
+		buffer.flush();
+
+		verify(mapper, times(2)).addViewCount(eq(POST_ID), anyLong());
+		assertThat(buffer.withPending(POST_ID, DB_COUNT + 1)).isEqualTo(DB_COUNT + 1);
+	}
+
+	@Test
+	void sameMemberIsCountedOnce() {
+		assertThat(buffer.recordView(POST_ID, 1)).isTrue();
+		assertThat(buffer.recordView(POST_ID, 1)).isFalse();
+		assertThat(buffer.recordView(POST_ID, null)).isTrue();
+
+		assertThat(buffer.withPending(POST_ID, DB_COUNT)).isEqualTo(DB_COUNT + 2);
+	}
+}
@@ -0,0 +1,127 @@
+package com.ggamakun.linkle.domain.trending.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ggamakun.linkle.domain.like.dto.LikeTargetType;
+import com.ggamakun.linkle.domain.trending.dto.ActivityEvent;
+import com.ggamakun.linkle.domain.trending.dto.ActivityType;
+import com.ggamakun.linkle.domain.trending.dto.TrendingItem;
+import com.ggamakun.linkle.domain.trending.dto.TrendingWindow;
+import com.ggamakun.linkle.domain.trending.service.TrendingService.DecayingScore;
+import com.ggamakun.linkle.global.exception.BadRequestException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TrendingServiceTest {
+
+	private static final long HOUR = 3_600_000L;
+
+	@Test
+	void scoreDecaysByWindowLifetime() {
+		// 생성 시각 이후로 잡아야 add 시점이 그대로 기준 시각이 됨
+		long at = System.currentTimeMillis() + HOUR;
+		DecayingScore score = new DecayingScore();
+		score.add(10, at);
+
+		double[] values = score.valuesAt(at + HOUR);
+
+		assertThat(values[TrendingWindow.HOUR.ordinal()]).isCloseTo(10 * Math.exp(-1), within(1e-9));
+		assertThat(values[TrendingWindow.DAY.ordinal()]).isCloseTo(10 * Math.exp(-1.0 / 24), within(1e-9));
+		assertThat(values[TrendingWindow.WEEK.ordinal()]).isCloseTo(10 * Math.exp(-1.0 / 168), within(1e-9));
+	}
+
+	@Test
+	void laterActivityAddsToDecayedScore() {
+		long at = System.currentTimeMillis() + HOUR;
+		DecayingScore score = new DecayingScore();
+		score.add(10, at);
+		score.add(5, at + HOUR);
+
+		double[] values = score.valuesAt(at + HOUR);
+
+		assertThat(values[TrendingWindow.HOUR.ordinal()]).isCloseTo(10 * Math.exp(-1) + 5, within(1e-9));
+		// 이전 시각으로 조회해도 더 커지지 않음
+		assertThat(score.valuesAt(at)[TrendingWindow.HOUR.ordinal()])
+				.isCloseTo(values[TrendingWindow.HOUR.ordinal()], within(1e-9));
+	}
+
+	@Test
+	void unlikeNeverDrivesScoreBelowZero() {
+		long at = System.currentTimeMillis() + HOUR;
+		DecayingScore score = new DecayingScore();
+		score.add(ActivityType.LIKE.getWeight(), at);
+		score.add(ActivityType.UNLIKE.getWeight(), at);
+		score.add(ActivityType.UNLIKE.getWeight(), at);
+
+		for (double value : score.valuesAt(at)) {
+			assertThat(value).isZero();
+		}
+	}
+
+	@Test
+	void refreshKeepsTopKPerTypeInScoreOrder() {
+		TrendingService service = new TrendingService(new SimpleMeterRegistry(), 2);
+		activity(service, LikeTargetType.POST, 1, ActivityType.VIEW);
+		activity(service, LikeTargetType.POST, 2, ActivityType.COMMENT);
+		activity(service, LikeTargetType.POST, 3, ActivityType.LIKE);
+		activity(service, LikeTargetType.POST, 3, ActivityType.VIEW);
+		activity(service, LikeTargetType.GALLERY, 4, ActivityType.LIKE);
+		// 추적하지 않는 타입은 무시
+		activity(service, LikeTargetType.COMMENT, 5, ActivityType.LIKE);
+
+		service.refresh();
+
+		assertThat(ids(service.getTrending(LikeTargetType.POST, "24h", 10))).containsExactly(2, 3);
+		assertThat(ids(service.getTrending(LikeTargetType.POST, "1h", 1))).containsExactly(2);
+		assertThat(ids(service.getTrending(LikeTargetType.GALLERY, "7d", 10))).containsExactly(4);
+		assertThat(service.getTrending(LikeTargetType.COMMENT, "24h", 10)).isEmpty();
+	}
+
+	@Test
+	void cancelledActivityDropsOutOfRanking() {
+		TrendingService service = new TrendingService(new SimpleMeterRegistry(), 10);
+		activity(service, LikeTargetType.POST, 1, ActivityType.VIEW);
+		activity(service, LikeTargetType.POST, 2, ActivityType.LIKE);
+		activity(service, LikeTargetType.POST, 2, ActivityType.UNLIKE);
+
+		service.refresh();
+
+		assertThat(ids(service.getTrending(LikeTargetType.POST, "24h", 10))).containsExactly(1);
+	}
+
+	@Test
+	void activityAfterPruneStartsNewScore() {
+		TrendingService service = new TrendingService(new SimpleMeterRegistry(), 10);
+		activity(service, LikeTargetType.POST, 1, ActivityType.LIKE);
+		activity(service, LikeTargetType.POST, 1, ActivityType.UNLIKE);
+		service.refresh();
+
+		// 제거된 뒤의 활동은 새 점수로 쌓임
+		activity(service, LikeTargetType.POST, 1, ActivityType.COMMENT);
+		service.refresh();
+
+		assertThat(ids(service.getTrending(LikeTargetType.POST, "24h", 10))).containsExactly(1);
+	}
+
+	@Test
+	void unknownWindowIsRejected() {
+		TrendingService service = new TrendingService(new SimpleMeterRegistry(), 10);
+
+		assertThatThrownBy(() -> service.getTrending(LikeTargetType.POST, "30d", 10))
+				.isInstanceOf(BadRequestException.class);
+	}
+
+	private static void activity(TrendingService service, LikeTargetType type, int targetId, ActivityType activityType) {
+		service.onActivity(ActivityEvent.of(type, targetId, activityType));
+	}
+
+	private static List<Integer> ids(List<TrendingItem> items) {
+		return items.stream().map(TrendingItem::getTargetId).toList();
+	}
+}
@@ -0,0 +1,72 @@
+package com.ggamakun.linkle.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class LoadGuardTest {
+
+	private final Cache<Integer, String> cache = Caffeine.newBuilder().build();
+	private final LoadGuard loadGuard = new LoadGuard();
+
+	@Test
+	void loadedValueIsCachedOnce() {
+		List<Integer> loads = new ArrayList<>();
+
+		assertThat(loadGuard.get(cache, 1, key -> {
+			loads.add(key);
+			return "v1";
+		})).isEqualTo("v1");
+		assertThat(loadGuard.get(cache, 1, key -> "other")).isEqualTo("v1");
+
+		assertThat(loads).containsExactly(1);
+	}
+
+	@Test
+	void changeDuringLoadKeepsValueOutOfCache() {
+		String value = loadGuard.get(cache, 1, key -> {
+			// 로드 중에 커밋된 변경 (캐시에 값이 없어 반영할 곳이 없음)
+			loadGuard.markChanged(key);
+			return "stale";
+		});
+
+		// 이번 호출에는 로드한 값을 반환하고 캐시에는 남기지 않음
+		assertThat(value).isEqualTo("stale");
+		assertThat(cache.getIfPresent(1)).isNull();
+	}
+
+	@Test
+	void changeBeforeLoadDoesNotBlockCaching() {
+		loadGuard.markChanged(1);
+
+		loadGuard.get(cache, 1, key -> "fresh");
+
+		assertThat(cache.getIfPresent(1)).isEqualTo("fresh");
+	}
+
+	@Test
+	void valueLoadedConcurrentlyIsDiscarded() {
+		List<String> discarded = new ArrayList<>();
+
+		String value = loadGuard.get(cache, 1, key -> {
+			// 다른 요청이 먼저 넣음
+			cache.put(key, "first");
+			return "second";
+		}, discarded::add);
+
+		assertThat(value).isEqualTo("first");
+		assertThat(discarded).containsExactly("second");
+	}
+
+	@Test
+	void nullLoadIsNotCached() {
+		assertThat(loadGuard.get(cache, 1, key -> null)).isNull();
+		assertThat(cache.getIfPresent(1)).isNull();
+	}
+}
@@ -5,17 +5,41 @@ import { notificationApi } from '../../services/api/notificationApi';
 import { useWebSocket } from '../../hooks/useWebSocket';
 import useUserStore from '../../store/useUserStore';
 
+// 한 번에 받아오는 알림 수
+const PAGE_SIZE = 20;
+
 const NotificationDropdown = ({ memberId }) => {
   const navigate = useNavigate();
   const { setCurrentClub } = useUserStore();
   const [isOpen, setIsOpen] = useState(false);
   const [notifications, setNotifications] = useState([]);
+  // 뱃지는 불러온 목록이 아니라 서버의 안 읽은 알림 수 기준
+  const [unreadCount, setUnreadCount] = useState(0);
+  const [hasMore, setHasMore] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
   const dropdownRef = useRef(null);
 
-  const handleNewNotification = useCallback((notification) => {
-    setNotifications((prev) => [notification, ...prev]);
+  const fetchUnreadCount = useCallback(async () => {
+    try {
+      const count = await notificationApi.getUnreadCount();
+      setUnreadCount(count || 0);
+    } catch (error) {
+      console.error('안 읽은 알림 수 조회 실패:', error);
+    }
   }, []);
 
+  const handleNewNotification = useCallback(
+    (notification) => {
+      // 묶인 알림은 같은 ID로 다시 오므로 기존 항목을 지우고 맨 위로
+      setNotifications((prev) => [
+        notification,
+        ...prev.filter((n) => n.notificationId !== notification.notificationId),
+      ]);
+      fetchUnreadCount();
+    },
+    [fetchUnreadCount],
+  );
+
   useWebSocket(memberId, handleNewNotification);
 
   useEffect(() => {
@@ -37,16 +61,40 @@ const NotificationDropdown = ({ memberId }) => {
 
   const fetchNotifications = async () => {
     try {
-      const data = await notificationApi.getNotifications();
+      const data = (await notificationApi.getNotifications(PAGE_SIZE)) || [];
       setNotifications(data);
+      setHasMore(data.length === PAGE_SIZE);
     } catch (error) {
       console.error('알림 목록 조회 실패:', error);
     }
+    fetchUnreadCount();
+  };
+
+  // 마지막 알림의 (보낸 시각, ID)를 커서로 이전 알림 조회
+  const handleLoadMore = async () => {
+    if (loadingMore || notifications.length === 0) return;
+    setLoadingMore(true);
+    try {
+      const cursor = notifications[notifications.length - 1];
+      const data = (await notificationApi.getNotifications(PAGE_SIZE, cursor)) || [];
+      setNotifications((prev) => {
+        const ids = new Set(prev.map((n) => n.notificationId));
+        return [...prev, ...data.filter((n) => !ids.has(n.notificationId))];
+      });
+      setHasMore(data.length === PAGE_SIZE);
+    } catch (error) {
+      console.error('이전 알림 조회 실패:', error);
+    } finally {
+      setLoadingMore(false);
+    }
   };
 
   const handleMarkAsRead = async (notificationId) => {
     try {
       await notificationApi.markAsRead(notificationId);
+      if (notifications.some((n) => n.notificationId === notificationId && n.isRead === 'N')) {
+        setUnreadCount((prev) => Math.max(0, prev - 1));
+      }
       setNotifications((prev) =>
         prev.map((n) => (n.notificationId === notificationId ? { ...n, isRead: 'Y' } : n)),
       );
@@ -58,6 +106,7 @@ const NotificationDropdown = ({ memberId }) => {
   const handleMarkAllAsRead = async () => {
     try {
       await notificationApi.markAllAsRead();
+      setUnreadCount(0);
       setNotifications((prev) => prev.map((n) => ({ ...n, isRead: 'Y' })));
     } catch (error) {
       console.error('전체 읽음 처리 실패:', error);
@@ -67,6 +116,9 @@ const NotificationDropdown = ({ memberId }) => {
   const handleDelete = async (notificationId) => {
     try {
       await notificationApi.deleteNotification(notificationId);
+      if (notifications.some((n) => n.notificationId === notificationId && n.isRead === 'N')) {
+        setUnreadCount((prev) => Math.max(0, prev - 1));
+      }
       setNotifications((prev) => prev.filter((n) => n.notificationId !== notificationId));
     } catch (error) {
       console.error('알림 삭제 실패:', error);
@@ -115,7 +167,7 @@ const NotificationDropdown = ({ memberId }) => {
     return date.toLocaleDateString('ko-KR');
   };
 
-  const hasUnreadNotifications = notifications.some((n) => n.isRead === 'N');
+  const hasUnreadNotifications = unreadCount > 0;
 
   return (
     <div className="relative" ref={dropdownRef}>
@@ -177,6 +229,15 @@ const NotificationDropdown = ({ memberId }) => {
                 </div>
               ))
             )}
+            {hasMore && (
+              <button
+                onClick={handleLoadMore}
+                disabled={loadingMore}
+                className="w-full px-4 py-3 text-sm text-gray-500 hover:bg-gray-50 disabled:text-gray-300"
+              >
+                {loadingMore ? '불러오는 중...' : '이전 알림 더보기'}
+              </button>
+            )}
           </div>
         </div>
       )}
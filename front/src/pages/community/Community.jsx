@@ -1,5 +1,5 @@
 // front/src/pages/community/Community.jsx
-import { useEffect, useMemo, useState } from 'react';
+import { useEffect, useState } from 'react';
 import { Link, useNavigate } from 'react-router-dom';
 import { PencilSquareIcon } from '@heroicons/react/24/outline';
 import {
@@ -9,6 +9,7 @@ import {
 import { postApi } from '../../services/api/postApi';
 import useUserStore from '../../store/useUserStore';
 import { clubApi } from '../../services/api/clubApi';
+import { categoryApi } from '../../services/api/categoryApi';
 import AlertModal from '../../components/common/AlertModal';
 import { useAlert } from '../../hooks/useAlert';
 
@@ -23,11 +24,8 @@ const CATEGORY_META = [
   { icon: '🌍', title: '외국어', dbName: '외국어' },
 ];
 
-const matchCategory = (post, dbName) => {
-  // parentCategoryName이 있으면 상위 카테고리로 비교, 없으면 categoryName으로 비교
-  const targetCategory = post.parentCategoryName || post.categoryName;
-  return targetCategory === dbName;
-};
+// 섹션별 표시 개수
+const PREVIEW_SIZE = 5;
 
 function WriteFab() {
   return (
@@ -49,7 +47,8 @@ const Community = () => {
   const { isAuthenticated: isLoggedIn } = useUserStore();
   const { alertState, showAlert, closeAlert } = useAlert();
 
-  const [posts, setPosts] = useState([]);
+  const [latestAll, setLatestAll] = useState([]);
+  const [buckets, setBuckets] = useState({});
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
   const [joinedClubs, setJoinedClubs] = useState([]);
@@ -62,9 +61,22 @@ const Community = () => {
       try {
         setLoading(true);
         setError(null);
-        const data = await postApi.getPostList();
-        console.log('전체 게시글:', data);
-        setPosts(data);
+        const [latest, categories] = await Promise.all([
+          postApi.getPostList({ size: PREVIEW_SIZE }),
+          categoryApi.getCategoriesHierarchy(),
+        ]);
+        setLatestAll(latest || []);
+
+        // 카테고리별 최신 글은 서버에서 상위 카테고리로 필터해서 조회
+        const entries = await Promise.all(
+          CATEGORY_META.map(async (c) => {
+            const parent = (categories || []).find((cat) => cat.name === c.dbName);
+            if (!parent) return [c.title, []];
+            const list = await postApi.getPostList({ categoryId: parent.categoryId, size: PREVIEW_SIZE });
+            return [c.title, list || []];
+          }),
+        );
+        setBuckets(Object.fromEntries(entries));
 
         // 로그인한 경우 가입한 동호회 목록 조회
         if (isLoggedIn) {
@@ -105,21 +117,6 @@ const Community = () => {
     });
   };
 
-  const latestAll = useMemo(
-    () => [...posts].sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt)),
-    [posts],
-  );
-
-  const buckets = useMemo(() => {
-    const map = {};
-    CATEGORY_META.forEach((c) => {
-      const filtered = latestAll.filter((p) => matchCategory(p, c.dbName));
-      console.log(`${c.title} (DB: ${c.dbName}) 카테고리 게시글:`, filtered);
-      map[c.title] = filtered.slice(0, 5);
-    });
-    return map;
-  }, [latestAll]);
-
   if (loading) {
     return (
       <div className="max-w-5xl mx-auto px-6 py-8 text-center">
@@ -163,13 +160,13 @@ const Community = () => {
         </div>
 
         <ul>
-          {latestAll.slice(0, 5).map((post, index) => (
+          {latestAll.map((post, index) => (
             <li key={post.postId}>
               <Link
                 to={`/community/posts/${post.postId}`}
                 onClick={(e) => handlePostClick(e, post)}
                 className={`flex items-center justify-between py-2 px-1 hover:bg-gray-50 transition ${
-                  index !== 4 ? 'border-b border-gray-100' : ''
+                  index !== latestAll.length - 1 ? 'border-b border-gray-100' : ''
                 }`}
               >
                 <div className="flex items-center space-x-3">
@@ -12,6 +12,7 @@ import DOMPurify from 'dompurify';
 import { postApi } from '../../services/api/postApi';
 import { fileApi } from '../../services/api/fileApi';
 import { clubApi } from '../../services/api/clubApi';
+import { categoryApi } from '../../services/api/categoryApi';
 import useUserStore from '../../store/useUserStore';
 import AlertModal from '../../components/common/AlertModal';
 
@@ -38,7 +39,8 @@ const CATEGORY_DB_MAP = {
   외국어: '외국어',
 };
 
-const BATCH_SIZE = 10;
+// 한 번에 받아오는 게시글 수
+const PAGE_SIZE = 20;
 
 /* ── utils ───────────────────────────────────────────────────────── */
 function parseFirstFileId(imagesString) {
@@ -125,17 +127,23 @@ export default function CommunityDetail() {
   const [showFilterDropdown, setShowFilterDropdown] = useState(false);
   const filterDropdownRef = useRef(null);
 
-  const [selectedCategory, setSelectedCategory] = useState('전체');
-  const [allPosts, setAllPosts] = useState([]);
+  const selectedCategory = useMemo(
+    () => (CATEGORY_LIST.includes(decodedTab) ? decodedTab : '전체'),
+    [decodedTab],
+  );
+  // 상위 카테고리 이름 -> ID (조회 전이면 null)
+  const [categoryIds, setCategoryIds] = useState(null);
+  const [posts, setPosts] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
 
   const [thumbnailMap, setThumbnailMap] = useState(new Map());
-  const [visibleCount, setVisibleCount] = useState(BATCH_SIZE);
   const [isAppending, setIsAppending] = useState(false);
   const [noMore, setNoMore] = useState(false);
   const sentinelRef = useRef(null);
   const observerRef = useRef(null);
+  // 필터가 바뀐 뒤 도착한 이전 조건의 응답은 버림
+  const requestRef = useRef(0);
 
   const [showLoginModal, setShowLoginModal] = useState(false);
   const [showMemberOnlyModal, setShowMemberOnlyModal] = useState(false);
@@ -169,50 +177,91 @@ export default function CommunityDetail() {
     navigate('/login');
   };
 
-  // load
+  // 서버 필터 조건 (상위 카테고리, 선택한 동호회, 마지막 게시글 ID 커서)
+  const buildParams = (cursor) => {
+    const params = { size: PAGE_SIZE };
+    if (cursor) params.cursor = cursor;
+    if (selectedCategory !== '전체') {
+      const categoryId = categoryIds?.get(CATEGORY_DB_MAP[selectedCategory]);
+      if (categoryId) params.categoryId = categoryId;
+    }
+    if (selectedClubIds.length > 0) params.clubId = selectedClubIds.join(',');
+    return params;
+  };
+
+  // 썸네일 (새로 받은 게시글만 조회해서 합침)
+  const loadThumbs = async (list, requestId) => {
+    const pairs = list
+      .map((p) => ({ postId: p.postId, fileId: parseFirstFileId(p.images) }))
+      .filter((x) => Number.isInteger(x.fileId) && x.fileId > 0);
+    if (!pairs.length) return;
+
+    const results = await Promise.allSettled(
+      pairs.map(({ postId, fileId }) =>
+        fileApi.getFile(fileId).then((res) => ({ postId, link: res?.fileLink || null })),
+      ),
+    );
+    if (requestRef.current !== requestId) return;
+    setThumbnailMap((prev) => {
+      const map = new Map(prev);
+      results.forEach((r) => {
+        if (r.status === 'fulfilled' && r.value?.link) map.set(r.value.postId, r.value.link);
+      });
+      return map;
+    });
+  };
+
+  // 가입 동호회, 카테고리 ID
   useEffect(() => {
     let cancelled = false;
+    (async () => {
+      const [clubs, categories] = await Promise.allSettled([
+        isLoggedIn ? clubApi.getJoinedClubs() : Promise.resolve([]),
+        categoryApi.getCategoriesHierarchy(),
+      ]);
+      if (cancelled) return;
+      if (clubs.status === 'fulfilled') setJoinedClubs(clubs.value || []);
+
+      const map = new Map();
+      if (categories.status === 'fulfilled') {
+        (categories.value || []).forEach((cat) => map.set(cat.name, cat.categoryId));
+      }
+      setCategoryIds(map);
+    })();
+    return () => {
+      cancelled = true;
+    };
+  }, [isLoggedIn]);
+
+  // 첫 페이지 (카테고리나 동호회 필터가 바뀌면 다시 조회, 응답 전까지 이전 목록 유지)
+  useEffect(() => {
+    if (!categoryIds) return;
+    const requestId = ++requestRef.current;
     (async () => {
       try {
-        setLoading(true);
         setError(null);
-        setAllPosts([]);
-        setThumbnailMap(new Map());
-        setVisibleCount(BATCH_SIZE);
         setNoMore(false);
+        const page = (await postApi.getPostList(buildParams(null))) || [];
+        if (requestRef.current !== requestId) return;
 
-        const [all, clubs] = await Promise.allSettled([
-          postApi.getPostList(),
-          isLoggedIn ? clubApi.getJoinedClubs() : Promise.resolve([]),
-        ]);
-
-        if (cancelled) return;
-        if (all.status === 'fulfilled') {
-          const posts = (all.value || [])
-            .slice()
-            .sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt));
-          setAllPosts(posts);
-        } else {
-          throw all.reason;
-        }
-
-        if (clubs.status === 'fulfilled') setJoinedClubs(clubs.value || []);
-
-        setSelectedCategory(CATEGORY_LIST.includes(decodedTab) ? decodedTab : '전체');
-        window.scrollTo({ top: 0, behavior: 'instant' });
+        setPosts(page);
+        setThumbnailMap(new Map());
+        setNoMore(page.length < PAGE_SIZE);
+        loadThumbs(page, requestId);
       } catch (err) {
-        if (!cancelled) {
+        if (requestRef.current === requestId) {
           console.error(err);
           setError('게시글을 불러올 수 없습니다.');
         }
       } finally {
-        if (!cancelled) setLoading(false);
+        if (requestRef.current === requestId) setLoading(false);
       }
     })();
-    return () => {
-      cancelled = true;
-    };
-  }, [decodedTab, isLoggedIn]);
+  }, [categoryIds, selectedCategory, selectedClubIds]);
+
+  useEffect(() => {
+    window.scrollTo({ top: 0, behavior: 'instant' });
+  }, [decodedTab]);
 
   // outside click close
   useEffect(() => {
@@ -226,51 +275,6 @@ export default function CommunityDetail() {
     }
   }, [showFilterDropdown]);
 
-  // filter
-  const filteredPosts = useMemo(() => {
-    let base = allPosts;
-    if (selectedCategory !== '전체') {
-      const db = CATEGORY_DB_MAP[selectedCategory];
-      base = base.filter((p) => (p.parentCategoryName || p.categoryName) === db);
-    }
-    if (selectedClubIds.length > 0) {
-      const set = new Set(selectedClubIds);
-      base = base.filter((p) => set.has(p.clubId));
-    }
-    return base;
-  }, [allPosts, selectedCategory, selectedClubIds]);
-
-  // thumbs
-  useEffect(() => {
-    let cancelled = false;
-    (async () => {
-      if (!filteredPosts.length) {
-        setThumbnailMap(new Map());
-        return;
-      }
-      const pairs = filteredPosts
-        .map((p) => ({ postId: p.postId, fileId: parseFirstFileId(p.images) }))
-        .filter((x) => Number.isInteger(x.fileId) && x.fileId > 0);
-
-      const results = await Promise.allSettled(
-        pairs.map(({ postId, fileId }) =>
-          fileApi.getFile(fileId).then((res) => ({ postId, link: res?.fileLink || null })),
-        ),
-      );
-      if (cancelled) return;
-      const map = new Map();
-      results.forEach((r) => {
-        if (r.status === 'fulfilled' && r.value?.link) map.set(r.value.postId, r.value.link);
-      });
-      setThumbnailMap(map);
-    })();
-    setVisibleCount(BATCH_SIZE);
-    setNoMore(false);
-    return () => {
-      cancelled = true;
-    };
-  }, [filteredPosts]);
-
   // infinite
   useEffect(() => {
     if (!sentinelRef.current || noMore || loading) return;
@@ -302,19 +306,25 @@ export default function CommunityDetail() {
         observerRef.current = null;
       }
     };
-  }, [visibleCount, filteredPosts.length, noMore, loading, isAppending]);
+  }, [posts, noMore, loading, isAppending]);
 
-  const appendMore = () => {
-    if (isAppending || noMore) return;
+  // 마지막 게시글 ID를 커서로 다음 페이지 조회
+  const appendMore = async () => {
+    if (isAppending || noMore || !posts.length) return;
+    const requestId = requestRef.current;
     setIsAppending(true);
-    setTimeout(() => {
-      setVisibleCount((prev) => {
-        const next = Math.min(prev + BATCH_SIZE, filteredPosts.length);
-        if (next >= filteredPosts.length) setNoMore(true);
-        return next;
-      });
+    try {
+      const page = (await postApi.getPostList(buildParams(posts[posts.length - 1].postId))) || [];
+      if (requestRef.current !== requestId) return;
+
+      setPosts((prev) => [...prev, ...page]);
+      setNoMore(page.length < PAGE_SIZE);
+      loadThumbs(page, requestId);
+    } catch (err) {
+      console.error('게시글 추가 조회 실패:', err);
+    } finally {
       setIsAppending(false);
-    }, 250);
+    }
   };
 
   const handleSelectCategory = (category) => navigate(`/community/${encodeURIComponent(category)}`);
@@ -330,8 +340,7 @@ export default function CommunityDetail() {
   };
 
   const getThumb = (id) => thumbnailMap.get(id) || null;
-  const visiblePosts = filteredPosts.slice(0, visibleCount);
-  const rows = toRows(visiblePosts);
+  const rows = toRows(posts);
 
   if (loading)
     return (
@@ -476,7 +485,7 @@ export default function CommunityDetail() {
                 );
 
                 const Card = ({ post, url }) => {
-                  const previewHtml = sanitizePreview(post.content); // DOMPurify + preview
+                  const previewHtml = sanitizePreview(post.excerpt); // DOMPurify + preview
                   const hasImg = !!url;
 
                   return (
@@ -1,5 +1,5 @@
 // front/src/pages/community/PostDetail.jsx
-import { useEffect, useRef, useState, useMemo } from 'react';
+import { useEffect, useRef, useState } from 'react';
 import { useNavigate, useParams } from 'react-router-dom';
 import DOMPurify from 'dompurify';
 import {
@@ -18,6 +18,9 @@ import DEFAULT_PROFILE from '../../assets/images/default-profile.png';
 import AlertModal from '../../components/common/AlertModal';
 import ConfirmModal from '../../components/common/ConfirmModal';
 
+// 서버 기본 페이지 크기 (이만큼 받으면 더 있을 수 있음)
+const COMMENT_PAGE_SIZE = 20;
+
 function KebabMenu({ onEdit, onDelete }) {
   const [open, setOpen] = useState(false);
   const menuRef = useRef(null);
@@ -100,6 +103,7 @@ export default function PostDetail() {
 
   const [comments, setComments] = useState([]);
   const [commentsLoading, setCommentsLoading] = useState(false);
+  const [hasMoreComments, setHasMoreComments] = useState(false);
   const [newComment, setNewComment] = useState('');
 
   const [replyingTo, setReplyingTo] = useState(null);
@@ -212,6 +216,7 @@ export default function PostDetail() {
         setCommentsLoading(true);
         const data = await commentApi.getComments(postId);
         setComments(data);
+        setHasMoreComments(data.length >= COMMENT_PAGE_SIZE);
 
         // ✅ 로그인한 경우 각 댓글의 좋아요 상태 조회
         if (isAuthenticated) {
@@ -379,6 +384,64 @@ export default function PostDetail() {
     }
   };
 
+  // 대댓글을 until개 이상(또는 끝까지) 채운 댓글 반환
+  const fillReplies = async (parent, until) => {
+    let replies = parent.replies || [];
+    let more = Boolean(parent.hasMoreReplies);
+    while (more && replies.length < until) {
+      const last = replies[replies.length - 1];
+      const data = await commentApi.getReplies(parent.commentId, {
+        cursor: last ? last.commentId : undefined,
+      });
+      replies = [...replies, ...data];
+      more = data.length >= COMMENT_PAGE_SIZE;
+    }
+    return { ...parent, replies, hasMoreReplies: more };
+  };
+
+  // 수정/삭제/답글 등록 후 댓글 다시 조회
+  // - 이미 불러온 댓글/답글 범위는 유지
+  // - replyParentId의 답글은 새 답글이 보이도록 끝까지
+  const reloadComments = async ({ replyParentId = null } = {}) => {
+    const loadedCount = comments.length;
+    const loadedReplies = new Map(comments.map((c) => [c.commentId, (c.replies || []).length]));
+
+    let all = [];
+    let more = false;
+    for (;;) {
+      const last = all[all.length - 1];
+      const data = await commentApi.getComments(postId, last ? { cursor: last.commentId } : {});
+      all = [...all, ...data];
+      more = data.length >= COMMENT_PAGE_SIZE;
+      if (!more || all.length >= loadedCount) break;
+    }
+
+    all = await Promise.all(
+      all.map((c) => {
+        const until =
+          c.commentId === replyParentId ? Infinity : loadedReplies.get(c.commentId) || 0;
+        return c.hasMoreReplies && (c.replies || []).length < until ? fillReplies(c, until) : c;
+      })
+    );
+    setComments(all);
+    setHasMoreComments(more);
+    return all;
+  };
+
+  // 새 최상위 댓글 등록 후 마지막 댓글 다음 페이지만 조회해서 덧붙임
+  // - 아직 불러오지 않은 페이지가 있으면 새 댓글은 맨 뒤에 있으므로 더보기에서 보임
+  const appendNewComments = async () => {
+    if (hasMoreComments) return;
+    const last = comments[comments.length - 1];
+    const data = await commentApi.getComments(postId, last ? { cursor: last.commentId } : {});
+    setComments((prev) => {
+      const ids = new Set(prev.map((c) => c.commentId));
+      return [...prev, ...data.filter((c) => !ids.has(c.commentId))];
+    });
+    setHasMoreComments(data.length >= COMMENT_PAGE_SIZE);
+    await appendCommentLikes(data);
+  };
+
   const handleCommentSubmit = () => {
     if (!isAuthenticated) {
       setAlertModal({
@@ -413,8 +476,8 @@ export default function PostDetail() {
             parentCommentId: null,
           });
           setNewComment('');
-          const data = await commentApi.getComments(postId);
-          setComments(data);
+          adjustCommentCount(1);
+          await appendNewComments();
           setAlertModal({
             isOpen: true,
             title: '완료',
@@ -467,8 +530,8 @@ export default function PostDetail() {
           });
           setReplyContent('');
           setReplyingTo(null);
-          const data = await commentApi.getComments(postId);
-          setComments(data);
+          adjustCommentCount(1);
+          await reloadComments({ replyParentId: parentId });
           setAlertModal({
             isOpen: true,
             title: '완료',
@@ -505,8 +568,7 @@ export default function PostDetail() {
       await commentApi.updateComment(commentId, editContent);
       setEditingComment(null);
       setEditContent('');
-      const data = await commentApi.getComments(postId);
-      setComments(data);
+      await reloadComments();
       setAlertModal({
         isOpen: true,
         title: '완료',
@@ -564,14 +626,14 @@ export default function PostDetail() {
       onConfirm: async () => {
         try {
           await commentApi.deleteComment(commentId);
+          adjustCommentCount(-1);
           setAlertModal({
             isOpen: true,
             title: '완료',
             message: '댓글이 삭제되었습니다.',
           });
-          // 댓글 목록 새로고침
-          const data = await commentApi.getComments(postId);
-          setComments(data);
+          // 댓글 목록 새로고침 (불러온 범위 유지)
+          const data = await reloadComments();
 
           // 로그인한 경우 댓글 좋아요 상태도 새로고침
           if (isAuthenticated) {
@@ -665,13 +727,75 @@ export default function PostDetail() {
     });
   };
 
-  const totalComments = useMemo(() => {
-    return comments.reduce((sum, c) => {
-      const parent = c.isDeleted !== 'Y' ? 1 : 0;
-      const replies = (c.replies || []).filter((r) => r.isDeleted !== 'Y').length;
-      return sum + parent + replies;
-    }, 0);
-  }, [comments]);
+  // 추가로 불러온 댓글의 좋아요 상태 반영
+  const appendCommentLikes = async (list) => {
+    const entries = await Promise.all(
+      list.map(async (c) => {
+        if (!isAuthenticated) {
+          return [c.commentId, { isLiked: false, likeCount: c.likeCount || 0 }];
+        }
+        try {
+          const status = await commentApi.getCommentLikeStatus(c.commentId);
+          return [c.commentId, { isLiked: status.liked, likeCount: status.likeCount }];
+        } catch {
+          return [c.commentId, { isLiked: false, likeCount: c.likeCount || 0 }];
+        }
+      })
+    );
+    setCommentLikes((prev) => ({ ...prev, ...Object.fromEntries(entries) }));
+  };
+
+  // 댓글 더보기 (마지막 최상위 댓글 다음부터)
+  const handleLoadMoreComments = async () => {
+    const last = comments[comments.length - 1];
+    if (!last) return;
+    try {
+      const data = await commentApi.getComments(postId, { cursor: last.commentId });
+      if (data.length === 0) {
+        setHasMoreComments(false);
+        return;
+      }
+      setComments((prev) => [...prev, ...data]);
+      setHasMoreComments(data.length >= COMMENT_PAGE_SIZE);
+      await appendCommentLikes(data.flatMap((c) => [c, ...(c.replies || [])]));
+    } catch (err) {
+      console.error('댓글 더보기 실패:', err);
+    }
+  };
+
+  // 답글 더보기 (마지막 대댓글 다음부터)
+  const handleLoadMoreReplies = async (parent) => {
+    const replies = parent.replies || [];
+    const last = replies[replies.length - 1];
+    try {
+      const data = await commentApi.getReplies(parent.commentId, {
+        cursor: last ? last.commentId : undefined,
+      });
+      setComments((prev) =>
+        prev.map((c) =>
+          c.commentId === parent.commentId
+            ? {
+                ...c,
+                replies: [...(c.replies || []), ...data],
+                hasMoreReplies: data.length >= COMMENT_PAGE_SIZE,
+              }
+            : c
+        )
+      );
+      await appendCommentLikes(data);
+    } catch (err) {
+      console.error('답글 더보기 실패:', err);
+    }
+  };
+
+  // 불러온 댓글만 세지 않도록 게시글의 댓글 수 사용 (등록/삭제 시 함께 갱신)
+  const totalComments = post?.commentCount || 0;
+
+  const adjustCommentCount = (delta) => {
+    setPost((prev) =>
+      prev ? { ...prev, commentCount: Math.max(0, (prev.commentCount || 0) + delta) } : prev
+    );
+  };
 
   if (loading) {
     return (
@@ -824,7 +948,7 @@ export default function PostDetail() {
 
       {commentsLoading ? (
         <div className="text-center py-4 text-gray-500">댓글을 불러오는 중...</div>
-      ) : totalComments > 0 ? (
+      ) : comments.length > 0 ? (
         <div className="space-y-4">
           {comments.map((comment) => (
             <div key={comment.commentId} className="border-b border-gray-100 pb-4">
@@ -1065,10 +1189,28 @@ export default function PostDetail() {
                       ))}
                     </div>
                   )}
+
+                  {comment.hasMoreReplies && (
+                    <button
+                      onClick={() => handleLoadMoreReplies(comment)}
+                      className="mt-2 ml-10 text-xs text-gray-500 hover:text-[#4FA3FF]"
+                    >
+                      답글 더보기
+                    </button>
+                  )}
                 </div>
               </div>
             </div>
           ))}
+
+          {hasMoreComments && (
+            <button
+              onClick={handleLoadMoreComments}
+              className="w-full py-2 text-sm text-gray-500 hover:text-[#4FA3FF]"
+            >
+              댓글 더보기
+            </button>
+          )}
         </div>
       ) : (
         <div className="text-center py-8 text-gray-500">첫 댓글을 작성해보세요!</div>
@@ -1,9 +1,14 @@
 import { get, post, put, del } from '../apiClient';
 
 export const commentApi = {
-  // 게시글의 댓글 목록 조회
-  getComments: async (postId) => {
-    return await get(`/posts/${postId}/comments`);
+  // 게시글의 댓글 목록 조회 (params: size, cursor - 마지막 최상위 댓글 ID)
+  getComments: async (postId, params = {}) => {
+    return await get(`/posts/${postId}/comments`, { params });
+  },
+
+  // 대댓글 더보기 (params: size, cursor - 마지막 대댓글 ID)
+  getReplies: async (commentId, params = {}) => {
+    return await get(`/comments/${commentId}/replies`, { params });
   },
 
   // 댓글 등록
@@ -1,8 +1,18 @@
 import { get, put, del } from '../apiClient';
 
 export const notificationApi = {
-  getNotifications: async () => {
-    return await get('/notifications');
+  // cursor: 마지막으로 받은 알림 ({ sentAt, notificationId }), 없으면 첫 페이지
+  getNotifications: async (size, cursor) => {
+    const params = { size };
+    if (cursor) {
+      params.cursorSentAt = new Date(cursor.sentAt).getTime();
+      params.cursorId = cursor.notificationId;
+    }
+    return await get('/notifications', { params });
+  },
+
+  getUnreadCount: async () => {
+    return await get('/notifications/unread-count');
   },
 
   markAsRead: async (notificationId) => {
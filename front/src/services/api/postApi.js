@@ -2,8 +2,8 @@ import { get, post, put, del } from '../apiClient';
 
 export const postApi = {
   // 게시글 목록 조회 (요약 정보)
-  getPostList: async () => {
-    return await get('/posts/summary');
+  getPostList: async (params = {}) => {
+    return await get('/posts/summary', { params });
   },
 
   // 게시글 상세 조회